@@ -0,0 +1,82 @@
+package com.kibaeon.backend.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.concurrent.TimeUnit;
+
+// 요청 하나를 인증하는 비용 비교 (필터가 하는 일과 같음)
+// legacy: 요청마다 키와 파서를 새로 만들고 검증 + userId 추출로 두 번 파싱하던 이전 방식
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class JwtAuthenticationBenchmark {
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+    private static final long EXPIRATION = 86_400_000L;
+
+    private JwtTokenProvider cachedProvider;
+    private JwtTokenProvider uncachedProvider;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        cachedProvider = new JwtTokenProvider(SECRET, EXPIRATION, 10_000);
+        uncachedProvider = new JwtTokenProvider(SECRET, EXPIRATION, 0);
+        token = cachedProvider.createToken(42L);
+    }
+
+    @Benchmark
+    public Long legacyDoubleParse() {
+        if (!legacyValidate(token)) {
+            return null;
+        }
+        return legacyUserId(token);
+    }
+
+    // 파서 재사용, 한 번만 파싱 (캐시 없음)
+    @Benchmark
+    public Long singleParse() {
+        return uncachedProvider.authenticate(token);
+    }
+
+    // 같은 토큰이 반복해서 들어오는 경우 (서명 검증 생략)
+    @Benchmark
+    public Long cachedToken() {
+        return cachedProvider.authenticate(token);
+    }
+
+    // 로그인 응답마다 토큰 발급
+    @Benchmark
+    public String createToken() {
+        return uncachedProvider.createToken(42L);
+    }
+
+    // 검증만 (STOMP CONNECT 등)
+    @Benchmark
+    public boolean validateToken() {
+        return uncachedProvider.validateToken(token);
+    }
+
+    private Key legacyKey() {
+        return Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private boolean legacyValidate(String token) {
+        try {
+            Jwts.parserBuilder().setSigningKey(legacyKey()).build().parseClaimsJws(token);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private Long legacyUserId(String token) {
+        Claims claims = Jwts.parserBuilder().setSigningKey(legacyKey()).build().parseClaimsJws(token).getBody();
+        return Long.valueOf(claims.getSubject());
+    }
+}
@@ -0,0 +1,124 @@
+package com.kibaeon.backend.config;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// 플랫폼 스레드(톰캣 기본 200개) vs 가상 스레드 요청 처리 비교
+// 요청 하나 = Redis 왕복 2번 + DB 커넥션 풀(10개)에서 쿼리 1번 + 약간의 CPU 작업을 흉내냄
+// 한 번 실행에 concurrency개 요청을 동시에 넣고 모두 끝날 때까지 기다림
+// 반복마다 처리량(req/s)과 요청별 p99 지연을 출력
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RequestThreadingBenchmark {
+    private static final int TOMCAT_THREADS = 200;
+    private static final int DB_POOL_SIZE = 10;
+    private static final long REDIS_ROUND_TRIP_NANOS = TimeUnit.MICROSECONDS.toNanos(500);
+    private static final long DB_QUERY_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+
+    @Param({"platform", "virtual"})
+    private String mode;
+
+    @Param({"200", "1000", "5000"})
+    private int concurrency;
+
+    // 요청 중 DB를 쓰는 비율 (퍼센트)
+    @Param({"20"})
+    private int dbPercent;
+
+    private ExecutorService executor;
+    private Semaphore dbPool;
+    private long[] latencies;
+    private long requests;
+    private long elapsedNanos;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = "virtual".equals(mode)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(TOMCAT_THREADS);
+        dbPool = new Semaphore(DB_POOL_SIZE, true);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetIteration() {
+        latencies = new long[0];
+        requests = 0;
+        elapsedNanos = 0;
+    }
+
+    @TearDown(Level.Iteration)
+    public void report() {
+        if (latencies.length == 0) {
+            return;
+        }
+        Arrays.sort(latencies);
+        long p99 = latencies[(int) Math.min(latencies.length - 1, Math.ceil(latencies.length * 0.99) - 1)];
+        System.out.printf("%n[%s, %d] %.0f req/s, p99 %.2f ms%n", mode, concurrency,
+                requests * 1e9 / elapsedNanos, p99 / 1e6);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public void burst() throws InterruptedException {
+        long[] batch = new long[concurrency];
+        CountDownLatch done = new CountDownLatch(concurrency);
+        long start = System.nanoTime();
+        for (int i = 0; i < concurrency; i++) {
+            int index = i;
+            boolean useDb = i % 100 < dbPercent;
+            executor.execute(() -> {
+                handle(useDb);
+                batch[index] = System.nanoTime() - start;
+                done.countDown();
+            });
+        }
+        done.await();
+        elapsedNanos += System.nanoTime() - start;
+        requests += concurrency;
+
+        // 반복 안의 모든 요청 지연을 모아서 p99 계산 (최근 것만 유지해서 메모리 제한)
+        if (latencies.length < 200_000) {
+            long[] merged = Arrays.copyOf(latencies, latencies.length + batch.length);
+            System.arraycopy(batch, 0, merged, latencies.length, batch.length);
+            latencies = merged;
+        }
+    }
+
+    private void handle(boolean useDb) {
+        block(REDIS_ROUND_TRIP_NANOS);   // JWT 확인 후 presence/방 조회
+        if (useDb) {
+            dbPool.acquireUninterruptibly();
+            try {
+                block(DB_QUERY_NANOS);
+            } finally {
+                dbPool.release();
+            }
+        }
+        Blackhole.consumeCPU(2_000);   // 직렬화 정도의 짧은 CPU 작업
+        block(REDIS_ROUND_TRIP_NANOS);   // 결과 저장
+    }
+
+    // 소켓 대기 흉내 (가상 스레드에서는 캐리어를 놓아줌)
+    private static void block(long nanos) {
+        try {
+            Thread.sleep(Duration.ofNanos(nanos));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
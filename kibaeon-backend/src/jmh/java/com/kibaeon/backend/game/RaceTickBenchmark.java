@@ -0,0 +1,52 @@
+package com.kibaeon.backend.game;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+// 6인 레이스 N개에 대해 진행 상황 반영 + 틱 한 번 처리 시간 측정 (브로드캐스트 제외)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RaceTickBenchmark {
+    private static final int PLAYERS = 6;
+    private static final int SENTENCE_LENGTH = 200;
+
+    @Param({"1000", "5000"})
+    private int raceCount;
+
+    private Race[] races;
+    private String[][] playerIds;
+    private long now;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        races = new Race[raceCount];
+        playerIds = new String[raceCount][];
+        for (int r = 0; r < raceCount; r++) {
+            String[] ids = new String[PLAYERS];
+            for (int p = 0; p < PLAYERS; p++) {
+                ids[p] = String.valueOf(r * PLAYERS + p);
+            }
+            playerIds[r] = ids;
+            races[r] = new Race("room-" + r, 1L, ids, SENTENCE_LENGTH, 0, 1, 1);
+        }
+        now = 1;
+    }
+
+    // 틱 한 번: 모든 플레이어가 한 프레임씩 보낸 뒤 모든 레이스 순위표 계산
+    @Benchmark
+    public void tick(Blackhole blackhole) {
+        now += RaceEngine.TICK_MILLIS;
+        int step = (int) (now / RaceEngine.TICK_MILLIS) % SENTENCE_LENGTH;
+        for (int r = 0; r < raceCount; r++) {
+            Race race = races[r];
+            String[] ids = playerIds[r];
+            for (int p = 0; p < PLAYERS; p++) {
+                race.update(ids[p], step - p, p, now);
+            }
+            blackhole.consume(race.tick(now));
+        }
+    }
+}
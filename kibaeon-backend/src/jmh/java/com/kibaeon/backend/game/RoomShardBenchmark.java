@@ -0,0 +1,107 @@
+package com.kibaeon.backend.game;
+
+import com.kibaeon.backend.room.RoomShards;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+// 진행 상황 명령 처리량 비교 (초당 명령 수, 샤드 수로 나누면 코어당 처리량)
+// shard: 방 샤드 스레드에 명령을 넣고 샤드가 순서대로 반영 (락 없음), shardCount별로 측정
+// lock : 요청 스레드가 방마다 락을 잡고 직접 반영 (이전 synchronized 방식), 샤드와 무관해서 한 번만 측정
+// 생산자 4스레드가 BATCH개씩 명령을 넣고, shard는 샤드마다 표시 명령을 넣어 모두 반영될 때까지 기다림
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class RoomShardBenchmark {
+    private static final int ROOMS = 1024;
+    private static final int PLAYERS = 6;
+    private static final int SENTENCE_LENGTH = 200;
+    private static final int BATCH = 10_000;
+
+    @State(Scope.Benchmark)
+    public static class Rooms {
+        String[] roomIds;
+        Race[] races;
+        String[][] playerIds;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            roomIds = new String[ROOMS];
+            races = new Race[ROOMS];
+            playerIds = new String[ROOMS][];
+            for (int r = 0; r < ROOMS; r++) {
+                String[] ids = new String[PLAYERS];
+                for (int p = 0; p < PLAYERS; p++) {
+                    ids[p] = String.valueOf(r * PLAYERS + p);
+                }
+                roomIds[r] = "room-" + r;
+                playerIds[r] = ids;
+                races[r] = new Race(roomIds[r], 1L, ids, SENTENCE_LENGTH, 0, 1, 1);
+            }
+        }
+    }
+
+    // shard 벤치마크만 쓰는 상태라 shardCount도 shard에만 적용됨
+    @State(Scope.Benchmark)
+    public static class Sharded {
+        @Param({"1", "2", "4", "8"})
+        int shardCount;
+
+        RoomShards shards;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            shards = new RoomShards(shardCount);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            shards.shutdown();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Producer {
+        int next;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void shard(Rooms rooms, Sharded sharded, Producer producer) throws InterruptedException {
+        RoomShards shards = sharded.shards;
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < BATCH; i++) {
+            int index = producer.next++;
+            int room = index % ROOMS;
+            Race race = rooms.races[room];
+            String playerId = rooms.playerIds[room][(index / ROOMS) % PLAYERS];
+            int cursor = (index / (ROOMS * PLAYERS)) % SENTENCE_LENGTH;
+
+            shards.execute(rooms.roomIds[room], () -> race.update(playerId, cursor, 0, now));
+        }
+
+        CountDownLatch drained = new CountDownLatch(shards.shardCount());
+        for (int shard = 0; shard < shards.shardCount(); shard++) {
+            shards.execute(shard, drained::countDown);
+        }
+        drained.await();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void lock(Rooms rooms, Producer producer) {
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < BATCH; i++) {
+            int index = producer.next++;
+            int room = index % ROOMS;
+            Race race = rooms.races[room];
+            String playerId = rooms.playerIds[room][(index / ROOMS) % PLAYERS];
+            int cursor = (index / (ROOMS * PLAYERS)) % SENTENCE_LENGTH;
+
+            synchronized (race) {
+                race.update(playerId, cursor, 0, now);
+            }
+        }
+    }
+}
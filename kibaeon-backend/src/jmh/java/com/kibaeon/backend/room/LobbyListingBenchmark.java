@@ -0,0 +1,77 @@
+package com.kibaeon.backend.room;
+
+import com.kibaeon.backend.config.RedisConfig;
+import com.kibaeon.backend.room.dto.RoomPageResponse;
+import com.kibaeon.backend.user.CharacterType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+// 방 개수별 로비 조회 지연 측정 (로컬 Redis 필요, 기본 DB 15번을 비우고 사용)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LobbyListingBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int roomCount;
+
+    private LettuceConnectionFactory connectionFactory;
+    private RoomService roomService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        RedisStandaloneConfiguration config = new RedisStandaloneConfiguration(
+                System.getenv().getOrDefault("REDIS_HOST", "localhost"),
+                Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379")));
+        config.setDatabase(Integer.parseInt(System.getenv().getOrDefault("BENCHMARK_REDIS_DATABASE", "15")));
+        connectionFactory = new LettuceConnectionFactory(config);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        RedisTemplate<String, Object> redisTemplate = new RedisConfig().redisTemplate(connectionFactory, new SimpleMeterRegistry());
+        redisTemplate.afterPropertiesSet();
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        }, true);
+
+        RoomRedisRepository roomRepository = new RoomRedisRepository(redisTemplate);
+        for (int i = 1; i <= roomCount; i++) {
+            String hostId = String.valueOf(i);
+            Room room = new Room("bench-" + i, "방 " + i, hostId, "host" + i, 4, false, null);
+            room.getPlayerCharacters().put(hostId, CharacterType.KEYCAP_01);
+            roomRepository.create(room);
+        }
+
+        roomService = new RoomService(roomRepository, null, null, null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    // 로비 첫 화면 (가장 흔한 요청)
+    @Benchmark
+    public RoomPageResponse firstPage() {
+        return roomService.getRooms(null, 20);
+    }
+
+    // 커서를 따라 전체 방 목록 순회
+    @Benchmark
+    public int walkAllPages() {
+        int total = 0;
+        Long cursor = null;
+        do {
+            RoomPageResponse page = roomService.getRooms(cursor, 50);
+            total += page.getRooms().size();
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return total;
+    }
+}
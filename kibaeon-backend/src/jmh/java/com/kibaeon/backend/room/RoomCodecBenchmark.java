@@ -0,0 +1,62 @@
+package com.kibaeon.backend.room;
+
+import com.kibaeon.backend.room.codec.BinaryRoomCodec;
+import com.kibaeon.backend.room.codec.JsonRoomCodec;
+import com.kibaeon.backend.room.codec.RoomCodec;
+import com.kibaeon.backend.user.CharacterType;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+// 방 상태 JSON/바이너리 인코딩, 디코딩 시간 비교 (크기는 Setup에서 한 번 출력)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RoomCodecBenchmark {
+
+    @Param({"2", "6"})
+    private int players;
+
+    @Param({"json", "binary"})
+    private String codecName;
+
+    private RoomCodec codec;
+    private Room room;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        codec = "binary".equals(codecName) ? new BinaryRoomCodec() : new JsonRoomCodec(JsonMapper.builder().build());
+
+        room = new Room("3f2b8c1e-6a4d-4b7e-9c1f-2d8e5a7b9c0d", "한타 연습방", "1001", "방장닉네임", 6, true, "secret");
+        room.getPlayerCharacters().put("1001", CharacterType.KEYCAP_01);
+        for (int i = 1; i < players; i++) {
+            String playerId = String.valueOf(1001 + i);
+            room.getPlayerIds().add(playerId);
+            room.getPlayerNicknames().put(playerId, "플레이어" + i);
+            room.getReadyStatus().put(playerId, i % 2 == 0);
+            room.getPlayerCharacters().put(playerId, CharacterType.values()[i % CharacterType.values().length]);
+        }
+        room.setStatus(RoomStatus.PLAYING);
+        room.setStartedAt(LocalDateTime.now());
+        room.setCategory("proverb");
+        room.setRounds(3);
+        room.setCurrentRound(1);
+        room.setPassword(null);
+
+        encoded = codec.encode(room);
+        System.out.printf("%n[%s, %d명] %d bytes%n", codecName, players, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return codec.encode(room);
+    }
+
+    @Benchmark
+    public Room decode() {
+        return codec.decode(encoded);
+    }
+}
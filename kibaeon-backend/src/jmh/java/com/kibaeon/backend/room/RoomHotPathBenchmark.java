@@ -0,0 +1,82 @@
+package com.kibaeon.backend.room;
+
+import com.kibaeon.backend.room.codec.JsonRoomCodec;
+import com.kibaeon.backend.room.dto.RoomListResponse;
+import com.kibaeon.backend.user.CharacterType;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 요청마다 도는 방 관련 CPU 작업 (Redis 왕복 제외)
+// - Room JSON 왕복: 방 응답/스냅샷 직렬화 (스프링과 같은 Jackson 설정)
+// - RoomListResponse.fromRoom: 로비 페이지 변환
+// - Room.isAllReady: 게임 시작 확인
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RoomHotPathBenchmark {
+
+    @Param({"2", "6"})
+    private int players;
+
+    // 로비 변환에 쓸 방 개수
+    @Param({"50", "1000"})
+    private int roomCount;
+
+    private JsonRoomCodec codec;
+    private Room room;
+    private byte[] json;
+    private List<Room> rooms;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        codec = new JsonRoomCodec(JsonMapper.builder().build());
+        room = room("bench", players);
+        json = codec.encode(room);
+
+        rooms = new ArrayList<>(roomCount);
+        for (int i = 0; i < roomCount; i++) {
+            rooms.add(room("bench-" + i, 1 + i % players));
+        }
+    }
+
+    @Benchmark
+    public byte[] roomToJson() {
+        return codec.encode(room);
+    }
+
+    @Benchmark
+    public Room roomFromJson() {
+        return codec.decode(json);
+    }
+
+    @Benchmark
+    public List<RoomListResponse> fromRoomAll() {
+        List<RoomListResponse> result = new ArrayList<>(rooms.size());
+        for (Room r : rooms) {
+            result.add(RoomListResponse.fromRoom(r));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public boolean isAllReady() {
+        return room.isAllReady();
+    }
+
+    private static Room room(String roomId, int players) {
+        Room room = new Room(roomId, "방 " + roomId, "1", "host", 6, false, null);
+        room.getPlayerCharacters().put("1", CharacterType.KEYCAP_01);
+        for (int i = 2; i <= players; i++) {
+            String playerId = String.valueOf(i);
+            room.getPlayerIds().add(playerId);
+            room.getPlayerNicknames().put(playerId, "player" + i);
+            room.getReadyStatus().put(playerId, true);
+            room.getPlayerCharacters().put(playerId, CharacterType.KEYCAP_02);
+        }
+        return room;
+    }
+}
@@ -0,0 +1,68 @@
+package com.kibaeon.backend.sentence;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 랜덤 문장 선택: ORDER BY RAND() LIMIT 1 쿼리 vs 메모리 문장 풀
+// H2(MySQL 모드) 인메모리 DB에 문장을 채워서 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+public class RandomSentenceBenchmark {
+    private static final String[] CATEGORIES = {"proverb", "poem", "news", "code"};
+
+    @Param({"10000", "1000000"})
+    private int sentenceCount;
+
+    private JdbcTemplate jdbcTemplate;
+    private SentencePool pool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:sentences-" + sentenceCount + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS sentences");
+        jdbcTemplate.execute("CREATE TABLE sentences (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "content VARCHAR(500) NOT NULL, category VARCHAR(50), created_at TIMESTAMP)");
+
+        List<Object[]> batch = new ArrayList<>();
+        for (int i = 0; i < sentenceCount; i++) {
+            batch.add(new Object[]{"벤치마크 문장 " + i + " 다람쥐 헌 쳇바퀴에 타고파", CATEGORIES[i % CATEGORIES.length]});
+            if (batch.size() == 10_000) {
+                jdbcTemplate.batchUpdate("INSERT INTO sentences (content, category) VALUES (?, ?)", batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO sentences (content, category) VALUES (?, ?)", batch);
+        }
+
+        pool = new SentencePool(null);
+        pool.append(jdbcTemplate.query("SELECT id, content, category FROM sentences ORDER BY id",
+                (rs, rowNum) -> new Sentence(rs.getLong("id"), rs.getString("content"), rs.getString("category"))));
+    }
+
+    @Benchmark
+    public Sentence orderByRand() {
+        return jdbcTemplate.queryForObject("SELECT id, content, category FROM sentences ORDER BY RAND() LIMIT 1",
+                (rs, rowNum) -> new Sentence(rs.getLong("id"), rs.getString("content"), rs.getString("category")));
+    }
+
+    @Benchmark
+    public Sentence pool() {
+        return pool.pick(null);
+    }
+
+    @Benchmark
+    public Sentence poolByCategory() {
+        return pool.pick("poem");
+    }
+}
@@ -0,0 +1,61 @@
+package com.kibaeon.backend.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 요청 종류 하나의 지연 기록 (나노초), 끝나고 정렬해서 백분위 계산
+class LatencyRecorder {
+    private final String name;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicLong errors = new AtomicLong();
+    private long[] samples = new long[1024];
+    private int count;
+
+    LatencyRecorder(String name) {
+        this.name = name;
+    }
+
+    void record(long nanos) {
+        lock.lock();
+        try {
+            if (count == samples.length) {
+                samples = Arrays.copyOf(samples, count * 2);
+            }
+            samples[count++] = nanos;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void error() {
+        errors.incrementAndGet();
+    }
+
+    String name() {
+        return name;
+    }
+
+    int count() {
+        return count;
+    }
+
+    long errors() {
+        return errors.get();
+    }
+
+    // 기록을 정렬해서 p50, p95, p99, max (밀리초)
+    double[] percentiles() {
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        return new double[]{at(sorted, 0.50), at(sorted, 0.95), at(sorted, 0.99), count == 0 ? 0 : sorted[count - 1] / 1e6};
+    }
+
+    private static double at(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(sorted.length * quantile) - 1);
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+}
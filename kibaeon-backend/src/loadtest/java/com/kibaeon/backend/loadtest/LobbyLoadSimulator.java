@@ -0,0 +1,146 @@
+package com.kibaeon.backend.loadtest;
+
+import com.kibaeon.backend.KibaeonBackendApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import tools.jackson.databind.ObjectMapper;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// 로비 부하 시뮬레이터
+// 백엔드를 H2(MySQL 모드) + 로컬 Redis로 띄우고, 가상 유저 수천 명이 실제 컨트롤러를 HTTP로 호출
+// 끝나면 요청 종류별 지연 백분위, 전체 처리량, 요청당 Redis 명령 수를 출력
+//
+// ./gradlew loadTest -Pusers=2000 -Piterations=5 -PthinkMs=20
+//   -Predis=spawn    : PATH의 redis-server를 빈 포트로 띄워서 사용 (기본)
+//   -Predis=external : REDIS_HOST/REDIS_PORT의 Redis 15번 DB를 비우고 사용
+public class LobbyLoadSimulator {
+
+    public static void main(String[] args) throws Exception {
+        int users = Integer.getInteger("loadtest.users", 1000);
+        int iterations = Integer.getInteger("loadtest.iterations", 5);
+        long thinkMillis = Long.getLong("loadtest.think-ms", 20);
+        boolean spawnRedis = !"external".equals(System.getProperty("loadtest.redis", "spawn"));
+
+        LocalRedis localRedis = spawnRedis ? LocalRedis.start() : null;
+        try {
+            SpringApplicationBuilder builder = new SpringApplicationBuilder(KibaeonBackendApplication.class)
+                    .profiles("loadtest");
+            if (localRedis != null) {
+                builder.properties("spring.data.redis.host=localhost", "spring.data.redis.port=" + localRedis.port());
+            }
+
+            try (ConfigurableApplicationContext context = builder.run(args)) {
+                run(context, users, iterations, thinkMillis);
+            }
+        } finally {
+            if (localRedis != null) {
+                localRedis.close();
+            }
+        }
+    }
+
+    private static void run(ConfigurableApplicationContext context, int users, int iterations, long thinkMillis) {
+        String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+        RedisConnectionFactory redis = context.getBean(RedisConnectionFactory.class);
+        flushIfExternal(redis, context);
+
+        Map<String, LatencyRecorder> recorders = new ConcurrentHashMap<>();
+        HttpClient http = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        Map<String, Long> redisBefore = commandStats(redis);
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < users; i++) {
+                executor.execute(new SimulatedUser(i, iterations, thinkMillis, baseUrl, http, objectMapper,
+                        label -> recorders.computeIfAbsent(label, LatencyRecorder::new)));
+            }
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        Map<String, Long> redisAfter = commandStats(redis);
+
+        report(users, iterations, elapsedNanos, recorders, redisBefore, redisAfter);
+    }
+
+    // external 모드면 남아 있는 키를 비움 (spawn 모드는 새 프로세스라 비어 있음)
+    private static void flushIfExternal(RedisConnectionFactory redis, ConfigurableApplicationContext context) {
+        if (!"external".equals(System.getProperty("loadtest.redis", "spawn"))) {
+            return;
+        }
+        try (RedisConnection connection = redis.getConnection()) {
+            connection.serverCommands().flushDb();
+        }
+    }
+
+    // INFO commandstats: 명령별 누적 호출 수
+    private static Map<String, Long> commandStats(RedisConnectionFactory redis) {
+        Map<String, Long> calls = new TreeMap<>();
+        try (RedisConnection connection = redis.getConnection()) {
+            Properties info = connection.serverCommands().info("commandstats");
+            for (String key : info.stringPropertyNames()) {
+                if (!key.startsWith("cmdstat_")) {
+                    continue;
+                }
+                // calls=12,usec=34,usec_per_call=2.83,...
+                String value = info.getProperty(key);
+                int from = value.indexOf("calls=") + "calls=".length();
+                int to = value.indexOf(',', from);
+                calls.put(key.substring("cmdstat_".length()), Long.parseLong(value.substring(from, to < 0 ? value.length() : to)));
+            }
+        }
+        return calls;
+    }
+
+    private static void report(int users, int iterations, long elapsedNanos, Map<String, LatencyRecorder> recorders,
+                               Map<String, Long> redisBefore, Map<String, Long> redisAfter) {
+        double seconds = elapsedNanos / 1e9;
+        long requests = 0;
+        long errors = 0;
+
+        System.out.printf("%n===== 로비 부하 시뮬레이션: 유저 %d명 x %d회, %.1f초 =====%n", users, iterations, seconds);
+        System.out.printf("%-16s %9s %7s %9s %9s %9s %9s%n", "요청", "count", "errors", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+        List<LatencyRecorder> sorted = new ArrayList<>(recorders.values());
+        sorted.sort(Comparator.comparing(LatencyRecorder::name));
+        for (LatencyRecorder recorder : sorted) {
+            double[] p = recorder.percentiles();
+            System.out.printf("%-16s %9d %7d %9.2f %9.2f %9.2f %9.2f%n",
+                    recorder.name(), recorder.count(), recorder.errors(), p[0], p[1], p[2], p[3]);
+            requests += recorder.count();
+            errors += recorder.errors();
+        }
+
+        // 시뮬레이터 자신이 보낸 INFO 명령은 제외
+        Map<String, Long> delta = new TreeMap<>();
+        long redisCommands = 0;
+        for (Map.Entry<String, Long> entry : redisAfter.entrySet()) {
+            long diff = entry.getValue() - redisBefore.getOrDefault(entry.getKey(), 0L);
+            if (diff > 0 && !entry.getKey().equals("info")) {
+                delta.put(entry.getKey(), diff);
+                redisCommands += diff;
+            }
+        }
+
+        System.out.printf("%n처리량 %.0f req/s, 요청 %d개, 실패 %d개%n", requests / seconds, requests, errors);
+        System.out.printf("Redis 명령 %d개, 요청당 %.2f개%n", redisCommands, requests == 0 ? 0.0 : (double) redisCommands / requests);
+        delta.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(10)
+                .forEach(entry -> System.out.printf("  %-12s %d%n", entry.getKey(), entry.getValue()));
+    }
+}
@@ -0,0 +1,53 @@
+package com.kibaeon.backend.loadtest;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.TimeUnit;
+
+// 부하 테스트용 redis-server 프로세스 (PATH에 redis-server가 있어야 함)
+// 빈 포트에 저장 없이 띄우고 끝나면 종료
+class LocalRedis implements AutoCloseable {
+    private final Process process;
+    private final int port;
+
+    private LocalRedis(Process process, int port) {
+        this.process = process;
+        this.port = port;
+    }
+
+    static LocalRedis start() throws IOException, InterruptedException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        Process process = new ProcessBuilder("redis-server", "--port", String.valueOf(port), "--save", "", "--appendonly", "no")
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+
+        // 포트가 열릴 때까지 대기
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            try (Socket ignored = new Socket("localhost", port)) {
+                return new LocalRedis(process, port);
+            } catch (IOException e) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("redis-server 실행에 실패했어요. (exit " + process.exitValue() + ")");
+                }
+                Thread.sleep(50);
+            }
+        }
+        process.destroyForcibly();
+        throw new IllegalStateException("redis-server가 10초 안에 뜨지 않았어요.");
+    }
+
+    int port() {
+        return port;
+    }
+
+    @Override
+    public void close() {
+        process.destroy();
+    }
+}
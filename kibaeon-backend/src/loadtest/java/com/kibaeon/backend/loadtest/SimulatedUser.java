@@ -0,0 +1,142 @@
+package com.kibaeon.backend.loadtest;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+// 유저 한 명의 시나리오: 회원가입 → 로그인 → (로비 조회 → 방 만들기/입장 → 변경분 폴링 → 나가기) 반복
+class SimulatedUser implements Runnable {
+    private final int index;
+    private final int iterations;
+    private final long thinkMillis;
+    private final String baseUrl;
+    private final HttpClient http;
+    private final ObjectMapper objectMapper;
+    private final Function<String, LatencyRecorder> recorders;
+
+    private String token;
+    private long lobbyVersion;
+
+    SimulatedUser(int index, int iterations, long thinkMillis, String baseUrl, HttpClient http,
+                  ObjectMapper objectMapper, Function<String, LatencyRecorder> recorders) {
+        this.index = index;
+        this.iterations = iterations;
+        this.thinkMillis = thinkMillis;
+        this.baseUrl = baseUrl;
+        this.http = http;
+        this.objectMapper = objectMapper;
+        this.recorders = recorders;
+    }
+
+    @Override
+    public void run() {
+        String email = "load" + index + "@kibaeon.test";
+        String password = "password" + index;
+        if (send("register", "POST", "/register",
+                Map.of("email", email, "password", password, "nickname", "u" + index)) == null) {
+            return;
+        }
+        token = send("login", "POST", "/login", Map.of("email", email, "password", password));
+        if (token == null) {
+            return;
+        }
+
+        for (int i = 0; i < iterations; i++) {
+            String page = send("lobby.page", "GET", "/api/rooms?size=20", null);
+            pollChanges();
+
+            String roomId = page == null ? null : pickJoinableRoom(page);
+            if (roomId == null || send("room.join", "POST", "/api/rooms/" + roomId + "/join", null) == null) {
+                String created = send("room.create", "POST", "/api/rooms",
+                        Map.of("roomName", "load " + index + "-" + i, "maxPlayers", 4));
+                if (created == null) {
+                    continue;
+                }
+                roomId = objectMapper.readTree(created).path("roomId").asString();
+            }
+
+            // 방에 머무는 동안 로비 변경분 폴링
+            for (int poll = 0; poll < 2; poll++) {
+                think();
+                pollChanges();
+            }
+            send("room.leave", "POST", "/api/rooms/" + roomId + "/leave", null);
+            think();
+        }
+    }
+
+    private void pollChanges() {
+        String changes = send("lobby.changes", "GET", "/api/rooms/changes?since=" + lobbyVersion, null);
+        if (changes != null) {
+            lobbyVersion = objectMapper.readTree(changes).path("version").asLong(lobbyVersion);
+        }
+    }
+
+    // 첫 페이지에서 대기 중이고 자리가 남은 공개 방 하나 (없으면 null)
+    private String pickJoinableRoom(String page) {
+        JsonNode rooms = objectMapper.readTree(page).path("rooms");
+        int size = rooms.size();
+        if (size == 0) {
+            return null;
+        }
+        int start = ThreadLocalRandom.current().nextInt(size);
+        for (int i = 0; i < size; i++) {
+            JsonNode room = rooms.get((start + i) % size);
+            if ("WAITING".equals(room.path("status").asString())
+                    && !room.path("privateRoom").asBoolean()
+                    && room.path("playerIds").size() < room.path("maxPlayers").asInt()) {
+                return room.path("roomId").asString();
+            }
+        }
+        return null;
+    }
+
+    // 요청 하나를 보내고 지연을 기록, 2xx가 아니면 null
+    private String send(String label, String method, String path, Object body) {
+        LatencyRecorder recorder = recorders.apply(label);
+        try {
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Content-Type", "application/json");
+            if (token != null) {
+                request.header("Authorization", "Bearer " + token);
+            }
+            request.method(method, body == null
+                    ? HttpRequest.BodyPublishers.noBody()
+                    : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+
+            long start = System.nanoTime();
+            HttpResponse<String> response = http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+            recorder.record(System.nanoTime() - start);
+
+            if (response.statusCode() / 100 != 2) {
+                recorder.error();
+                return null;
+            }
+            return response.body();
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            recorder.error();
+            return null;
+        }
+    }
+
+    private void think() {
+        if (thinkMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(thinkMillis + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
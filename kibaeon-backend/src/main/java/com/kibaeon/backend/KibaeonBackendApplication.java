@@ -2,8 +2,10 @@ package com.kibaeon.backend;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableAsync;
 
 @SpringBootApplication
+@EnableAsync
 public class KibaeonBackendApplication {
 
     public static void main(String[] args) {
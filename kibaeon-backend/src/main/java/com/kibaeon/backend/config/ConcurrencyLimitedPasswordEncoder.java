@@ -0,0 +1,43 @@
+package com.kibaeon.backend.config;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.Semaphore;
+
+// BCrypt는 한 번에 수십 ms CPU를 쓰므로 동시에 도는 개수를 제한
+// 가상 스레드 모드에서는 요청 수만큼 스레드가 생기니, 로그인이 몰려도 CPU를 다 차지하지 않게 함
+// (Semaphore 대기는 가상 스레드를 고정하지 않음)
+public class ConcurrencyLimitedPasswordEncoder implements PasswordEncoder {
+    private final PasswordEncoder delegate;
+    private final Semaphore permits;
+
+    public ConcurrencyLimitedPasswordEncoder(PasswordEncoder delegate, int maxConcurrent) {
+        this.delegate = delegate;
+        this.permits = new Semaphore(Math.max(1, maxConcurrent));
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        permits.acquireUninterruptibly();
+        try {
+            return delegate.encode(rawPassword);
+        } finally {
+            permits.release();
+        }
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        permits.acquireUninterruptibly();
+        try {
+            return delegate.matches(rawPassword, encodedPassword);
+        } finally {
+            permits.release();
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -1,6 +1,7 @@
 package com.kibaeon.backend.config;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -10,16 +11,40 @@ import org.springframework.stereotype.Component;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Component
 public class JwtTokenProvider {
-    @Value("${jwt.secret}")
-    private String SECRET_KEY;
-    @Value("${jwt.expiration}")
-    private Long EXPIRATION;
+    private final Long EXPIRATION;
+    private final int CACHE_SIZE;
 
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+    // 키와 파서는 한 번만 만들어 재사용 (JwtParser는 불변이라 여러 스레드에서 같이 써도 됨)
+    private final Key signingKey;
+    private final JwtParser parser;
+
+    // 최근에 검증한 토큰 -> userId (만료 시각까지만 유효)
+    // 같은 클라이언트가 반복해서 보내는 토큰은 서명 검증 없이 바로 통과
+    // 접근 순서 LinkedHashMap이라 가득 차면 가장 오래 안 쓴 토큰 하나만 밀려남 (조회/추가 모두 O(1))
+    private final Map<String, VerifiedToken> verifiedTokens;
+    private final ReentrantLock cacheLock = new ReentrantLock();
+
+    public JwtTokenProvider(@Value("${jwt.secret}") String secretKey,
+                            @Value("${jwt.expiration}") Long expiration,
+                            @Value("${jwt.cache.max-size:10000}") int cacheSize) {
+        this.EXPIRATION = expiration;
+        this.CACHE_SIZE = cacheSize;
+        this.verifiedTokens = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+                return size() > CACHE_SIZE;
+            }
+        };
+        this.signingKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
     }
 
     public String createToken(Long userId) {
@@ -27,29 +52,53 @@ public class JwtTokenProvider {
                 .setSubject(String.valueOf(userId))
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION))
-                .signWith(SignatureAlgorithm.HS256, getSigningKey())
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public boolean validateToken(String token) {
+    // 토큰 검증과 userId 추출을 한 번의 파싱으로 처리, 유효하지 않으면 null
+    public Long authenticate(String token) {
+        long now = System.currentTimeMillis();
+
+        if (CACHE_SIZE > 0) {
+            cacheLock.lock();
+            try {
+                VerifiedToken cached = verifiedTokens.get(token);
+                if (cached != null) {
+                    if (cached.expiresAt() > now) {
+                        return cached.userId();
+                    }
+                    verifiedTokens.remove(token);
+                }
+            } finally {
+                cacheLock.unlock();
+            }
+        }
+
+        Claims claims;
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
+            claims = parser.parseClaimsJws(token).getBody();
         } catch (Exception e) {
-            return false;
+            return null;
+        }
+
+        Long userId = Long.valueOf(claims.getSubject());
+        Date expiration = claims.getExpiration();
+        if (expiration != null && CACHE_SIZE > 0) {
+            cacheLock.lock();
+            try {
+                verifiedTokens.put(token, new VerifiedToken(userId, expiration.getTime()));
+            } finally {
+                cacheLock.unlock();
+            }
         }
+        return userId;
     }
 
-    public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    public boolean validateToken(String token) {
+        return authenticate(token) != null;
+    }
 
-        return Long.valueOf(claims.getSubject());
+    private record VerifiedToken(Long userId, long expiresAt) {
     }
 }
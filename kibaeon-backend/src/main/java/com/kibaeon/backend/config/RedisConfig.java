@@ -1,17 +1,23 @@
 package com.kibaeon.backend.config;
 
+import com.kibaeon.backend.metrics.MeteredRedisTemplate;
+import com.kibaeon.backend.user.UserSummaryCache;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
 public class RedisConfig {
 
+    // 왕복 횟수/시간을 kibaeon.redis.round.trips와 요청별 메트릭으로 남기는 템플릿
     @Bean
-    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
-        RedisTemplate<String, Object> template = new RedisTemplate<>();
+    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory, MeterRegistry meterRegistry) {
+        RedisTemplate<String, Object> template = new MeteredRedisTemplate(meterRegistry);
         template.setConnectionFactory(connectionFactory);
 
         // 모두 String으로 처리, 후에 service에서 JSON 변환
@@ -23,4 +29,15 @@ public class RedisConfig {
 
         return template;
     }
+
+    // Redis pub/sub 구독 (다른 서버에서 보낸 캐시 무효화 메시지 수신)
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                        UserSummaryCache userSummaryCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(userSummaryCache, new ChannelTopic(UserSummaryCache.INVALIDATE_CHANNEL));
+
+        return container;
+    }
 }
@@ -0,0 +1,29 @@
+package com.kibaeon.backend.config;
+
+import com.kibaeon.backend.realtime.ClusterBroadcaster;
+import com.kibaeon.backend.room.dto.RoomEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// 방을 나가거나 강퇴되면 그 유저의 방/게임 토픽 구독을 끊음, 방이 삭제되면 전원
+// StompAuthChannelInterceptor는 SUBSCRIBE 때만 입장 여부를 확인하므로, 나간 뒤에도 이벤트를 계속 받지 않도록
+// (강퇴 이벤트를 먼저 보낸 뒤 끊으므로 강퇴된 유저도 PLAYER_KICKED는 받음)
+@Component
+@RequiredArgsConstructor
+public class RoomSubscriptionRevoker {
+    private final ClusterBroadcaster broadcaster;
+
+    @EventListener
+    public void onRoomEvent(RoomEvent event) {
+        switch (event.type()) {
+            case PLAYER_LEFT, PLAYER_KICKED ->
+                    broadcaster.unsubscribe(event.userId(), StompAuthChannelInterceptor.roomDestinations(event.roomId()));
+            case ROOM_DELETED ->
+                    broadcaster.unsubscribe(null, StompAuthChannelInterceptor.roomDestinations(event.roomId()));
+            default -> {
+                // 그 외 이벤트는 구독에 영향 없음
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.kibaeon.backend.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled 작업 (전적 반영, 방 정리, 매칭, 랭킹 재구축 ...)
+// scheduling.enabled=false면 모두 끔 (문장 가져오기 CLI처럼 서버 없이 한 번 돌고 끝나는 실행)
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
@@ -20,6 +20,10 @@ public class SecurityConfig {
     @Value("${cors.allowed-origins}")
     private String allowedOrigins;
 
+    // 동시에 돌 수 있는 BCrypt 개수 (0 이하면 CPU 코어 수)
+    @Value("${security.bcrypt.max-concurrent:0}")
+    private int bcryptMaxConcurrent;
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http, JwtAuthenticationFilter jwtAuthenticationFilter, CorsConfigurationSource corsConfigurationSource) throws Exception {
         http.csrf(csrf -> csrf.disable())
@@ -30,6 +34,10 @@ public class SecurityConfig {
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/register", "/login", "/check-email").permitAll()
+                        // WebSocket 핸드셰이크는 열어두고, 인증은 STOMP CONNECT 프레임에서 처리
+                        .requestMatchers("/ws/**").permitAll()
+                        // 메트릭 수집용, 관리 포트는 localhost에만 열림 (management.server)
+                        .requestMatchers("/actuator/**").permitAll()
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
@@ -53,6 +61,7 @@ public class SecurityConfig {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        int maxConcurrent = bcryptMaxConcurrent > 0 ? bcryptMaxConcurrent : Runtime.getRuntime().availableProcessors();
+        return new ConcurrencyLimitedPasswordEncoder(new BCryptPasswordEncoder(), maxConcurrent);
     }
 }
@@ -0,0 +1,91 @@
+package com.kibaeon.backend.config;
+
+import com.kibaeon.backend.game.RaceEngine;
+import com.kibaeon.backend.presence.PresenceService;
+import com.kibaeon.backend.room.RoomEventPublisher;
+import com.kibaeon.backend.room.RoomRedisRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+import java.util.List;
+
+// STOMP 인증/인가
+// CONNECT: Authorization 헤더의 JWT 검증 후 세션 유저 지정
+// SUBSCRIBE: 방/게임 토픽은 그 방에 입장한 유저만 구독 가능
+// 인증된 세션에서 온 프레임은 모두 접속 하트비트로 사용
+@Component
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+    private final JwtTokenProvider jwtTokenProvider;
+    private final RoomRedisRepository roomRepository;
+    private final PresenceService presenceService;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        if (accessor.getCommand() == StompCommand.CONNECT) {
+            String authHeader = accessor.getFirstNativeHeader("Authorization");
+            String token = null;
+            if (authHeader != null && authHeader.startsWith("Bearer ")) {
+                token = authHeader.substring(7);
+            }
+
+            Long userId = token != null ? jwtTokenProvider.authenticate(token) : null;
+            if (userId == null) {
+                throw new MessageDeliveryException("인증이 필요해요.");
+            }
+
+            accessor.setUser(new UsernamePasswordAuthenticationToken(String.valueOf(userId), null, List.of()));
+        }
+
+        Principal sender = accessor.getUser();
+        if (sender != null && accessor.getCommand() != StompCommand.DISCONNECT) {
+            presenceService.touch(sender.getName());
+        }
+
+        if (accessor.getCommand() == StompCommand.SUBSCRIBE) {
+            Principal user = accessor.getUser();
+            if (user == null) {
+                throw new MessageDeliveryException("인증이 필요해요.");
+            }
+
+            String roomId = roomIdOf(accessor.getDestination());
+            if (roomId != null && !roomId.equals(roomRepository.findCurrentRoomId(user.getName()))) {
+                throw new MessageDeliveryException("이 방에 입장해 있지 않아요.");
+            }
+        }
+
+        return message;
+    }
+
+    // 방 단위 토픽 (입장한 유저만 구독 가능)
+    static List<String> roomDestinations(String roomId) {
+        return List.of(RoomEventPublisher.ROOM_TOPIC_PREFIX + roomId, RaceEngine.GAME_TOPIC_PREFIX + roomId);
+    }
+
+    // 방 단위 토픽이면 roomId, 아니면 null
+    private String roomIdOf(String destination) {
+        if (destination == null) {
+            return null;
+        }
+        for (String prefix : List.of(RoomEventPublisher.ROOM_TOPIC_PREFIX, RaceEngine.GAME_TOPIC_PREFIX)) {
+            if (destination.startsWith(prefix)) {
+                return destination.substring(prefix.length());
+            }
+        }
+        return null;
+    }
+}
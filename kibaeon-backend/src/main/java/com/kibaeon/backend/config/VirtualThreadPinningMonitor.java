@@ -0,0 +1,72 @@
+package com.kibaeon.backend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// 가상 스레드 모드에서 synchronized 안에서 막혀 캐리어 스레드에 고정(pinning)된 경우를 JFR로 잡아 메트릭으로 남김
+// kibaeon.threads.pinned{frame=...} : 고정된 시간, frame은 우리 코드 중 가장 안쪽 프레임
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class VirtualThreadPinningMonitor {
+    private static final String APP_PACKAGE = "com.kibaeon.";
+
+    private final MeterRegistry meterRegistry;
+
+    // 이 시간보다 오래 고정된 경우만 기록
+    @Value("${threads.pinning.threshold-ms:20}")
+    private long thresholdMs;
+
+    private RecordingStream stream;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable("jdk.VirtualThreadPinned")
+                .withThreshold(Duration.ofMillis(thresholdMs))
+                .withStackTrace();
+        stream.onEvent("jdk.VirtualThreadPinned", this::record);
+        stream.startAsync();
+    }
+
+    private void record(RecordedEvent event) {
+        Timer.builder("kibaeon.threads.pinned")
+                .tag("frame", appFrame(event))
+                .register(meterRegistry)
+                .record(event.getDuration());
+    }
+
+    // 스택에서 우리 코드 프레임을 찾음 (없으면 맨 위 프레임)
+    private static String appFrame(RecordedEvent event) {
+        if (event.getStackTrace() == null || event.getStackTrace().getFrames().isEmpty()) {
+            return "unknown";
+        }
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (type.startsWith(APP_PACKAGE)) {
+                return type.substring(type.lastIndexOf('.') + 1) + "." + frame.getMethod().getName();
+            }
+        }
+        RecordedFrame top = event.getStackTrace().getFrames().get(0);
+        return top.getMethod().getType().getName() + "." + top.getMethod().getName();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+}
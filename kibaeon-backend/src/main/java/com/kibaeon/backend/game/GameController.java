@@ -0,0 +1,34 @@
+package com.kibaeon.backend.game;
+
+import com.kibaeon.backend.game.dto.ProgressFrame;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.security.Principal;
+
+@RestController
+@RequiredArgsConstructor
+public class GameController {
+    private final GameService gameService;
+
+    // 게임 시작 (결과와 진행 상황은 /topic/games/{roomId} 로 전송)
+    @PostMapping("/api/games/{roomId}/start")
+    public ResponseEntity<Void> startGame(@PathVariable String roomId, Authentication authentication) {
+        String userId = authentication.getName();
+        gameService.startGame(roomId, userId);
+
+        return ResponseEntity.noContent().build();
+    }
+
+    // 진행 상황 수신 (STOMP /app/games/{roomId}/progress)
+    @MessageMapping("/games/{roomId}/progress")
+    public void submitProgress(@DestinationVariable String roomId, ProgressFrame frame, Principal principal) {
+        gameService.submitProgress(roomId, principal.getName(), frame.cursor(), frame.errors());
+    }
+}
@@ -0,0 +1,18 @@
+package com.kibaeon.backend.game;
+
+import com.kibaeon.backend.game.dto.GameResult;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 게임이 끝나면 발행되는 애플리케이션 이벤트 (전적, 통계 반영용)
+public record GameFinishedEvent(
+        String matchKey,           // 판마다 새로 만드는 고유 키 (기록 저장을 다시 시도해도 한 번만 들어가도록)
+        String roomId,
+        Long sentenceId,
+        int round,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        List<GameResult> results   // 순위순
+) {
+}
@@ -0,0 +1,7 @@
+package com.kibaeon.backend.game;
+
+public enum GameMessageType {
+    STARTED,   // 게임 시작 (문장, 플레이어 순서, 시작 시각)
+    TICK,      // 틱마다 보내는 순위표
+    FINISHED   // 게임 종료 (최종 결과)
+}
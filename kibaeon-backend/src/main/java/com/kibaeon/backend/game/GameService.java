@@ -0,0 +1,76 @@
+package com.kibaeon.backend.game;
+
+import com.kibaeon.backend.room.LobbyFeed;
+import com.kibaeon.backend.room.Room;
+import com.kibaeon.backend.room.RoomErrorCode;
+import com.kibaeon.backend.room.RoomException;
+import com.kibaeon.backend.room.RoomRedisRepository;
+import com.kibaeon.backend.room.RoomStatus;
+import com.kibaeon.backend.sentence.Sentence;
+import com.kibaeon.backend.sentence.SentenceService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class GameService {
+    private final RoomRedisRepository roomRepository;
+    private final SentenceService sentenceService;
+    private final RaceEngine raceEngine;
+    private final LobbyFeed lobbyFeed;
+
+    // 게임 시작 (방장만 가능, 방장 제외 전원 준비 상태여야 함)
+    public void startGame(String roomId, String userId) {
+        try {
+            Room current = roomRepository.findById(roomId);
+            if (current == null) {
+                throw new RoomException(RoomErrorCode.ROOM_NOT_FOUND);
+            }
+            // 덱을 만들기 전에 안 되는 요청은 먼저 거름 (최종 확인은 스크립트가 원자적으로 다시 함)
+            checkStartable(current, userId);
+
+            // 라운드 수만큼 미리 섞어둔 덱 (방 id와 시작 시각으로 시드를 만들어 방마다 다른 순서)
+            LocalDateTime startedAt = LocalDateTime.now();
+            long seed = roomId.hashCode() * 0x9E3779B97F4A7C15L ^ System.nanoTime();
+            List<Long> deck = sentenceService.createDeck(current.getCategory(), current.getRounds(), seed);
+            // PLAYING으로 바꾸기 전에 첫 문장까지 준비 (조회가 실패해도 방이 PLAYING에 갇히지 않도록)
+            Sentence sentence = sentenceService.getSentence(deck.get(0));
+
+            // 방장/준비 상태 확인과 PLAYING 전환, 덱 저장은 스크립트로 한 번에 처리
+            Room room = roomRepository.startGame(roomId, userId, startedAt, seed, deck);
+            try {
+                raceEngine.start(room.getRoomId(), room.getPlayerIds(), sentence, 1, deck.size());
+            } catch (RuntimeException e) {
+                // 레이스가 없으면 finish.lua가 돌 일이 없으므로 직접 대기 상태로 되돌림
+                roomRepository.abortStart(roomId, startedAt);
+                throw e;
+            }
+            lobbyFeed.updated(roomId);
+        } catch (Exception e) {
+            throw new RuntimeException("게임 시작에 실패했어요. :" + e.getMessage(), e);
+        }
+    }
+
+    private void checkStartable(Room room, String userId) {
+        if (!userId.equals(room.getHostId())) {
+            throw new RoomException(RoomErrorCode.NOT_HOST);
+        }
+        if (room.getStatus() == RoomStatus.PLAYING) {
+            throw new RoomException(RoomErrorCode.GAME_IN_PROGRESS);
+        }
+        if (room.getPlayerIds().size() < 2) {
+            throw new RoomException(RoomErrorCode.NOT_ENOUGH_PLAYERS);
+        }
+        if (!room.isAllReady()) {
+            throw new RoomException(RoomErrorCode.NOT_ALL_READY);
+        }
+    }
+
+    // 클라이언트가 묶어서 보낸 진행 상황 반영
+    public void submitProgress(String roomId, String userId, int cursor, int errors) {
+        raceEngine.submitProgress(roomId, userId, cursor, errors);
+    }
+}
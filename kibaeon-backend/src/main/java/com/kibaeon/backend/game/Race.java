@@ -0,0 +1,160 @@
+package com.kibaeon.backend.game;
+
+import com.kibaeon.backend.game.dto.GameResult;
+import com.kibaeon.backend.game.dto.GameTickMessage;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 방 하나의 진행 중인 레이스 상태
+// 플레이어별 값은 배열로 들고 있어서 진행 상황 반영과 순위 계산에 객체를 만들지 않음
+// (틱마다 새로 만드는 건 밖으로 보내는 메시지 배열뿐)
+// 방 샤드 스레드 하나에서만 접근하므로 동기화하지 않음
+class Race {
+    @Getter
+    private final String roomId;
+    @Getter
+    private final Long sentenceId;
+    @Getter
+    private final String[] playerIds;
+    private final int length;        // 문장 길이
+    @Getter
+    private final long startAt;      // 입력을 받기 시작하는 시각 (epoch millis)
+    @Getter
+    private final int round;         // 몇 번째 라운드인지 (1부터)
+    @Getter
+    private final int rounds;        // 총 라운드 수
+
+    private final int[] cursor;
+    private final int[] errors;
+    private final long[] finishedAt; // 0이면 아직 못 끝냄
+    private final int[] ranking;     // 틱마다 다시 정렬해서 재사용
+    private int finishedCount;
+    private boolean dirty;
+
+    Race(String roomId, Long sentenceId, String[] playerIds, int length, long startAt, int round, int rounds) {
+        this.roomId = roomId;
+        this.sentenceId = sentenceId;
+        this.playerIds = playerIds;
+        this.length = length;
+        this.startAt = startAt;
+        this.round = round;
+        this.rounds = rounds;
+        this.cursor = new int[playerIds.length];
+        this.errors = new int[playerIds.length];
+        this.finishedAt = new long[playerIds.length];
+        this.ranking = new int[playerIds.length];
+        for (int i = 0; i < ranking.length; i++) {
+            ranking[i] = i;
+        }
+    }
+
+    // 진행 상황 반영 (cursor, errors는 줄어들지 않음)
+    void update(String userId, int newCursor, int newErrors, long now) {
+        int index = indexOf(userId);
+        if (index < 0 || now < startAt || finishedAt[index] != 0) {
+            return;
+        }
+
+        int clamped = Math.min(Math.max(newCursor, 0), length);
+        if (clamped > cursor[index]) {
+            cursor[index] = clamped;
+        }
+        if (newErrors > errors[index]) {
+            errors[index] = newErrors;
+        }
+        if (cursor[index] == length) {
+            finishedAt[index] = now;
+            finishedCount++;
+        }
+        dirty = true;
+    }
+
+    // 지난 틱 이후 바뀐 게 있으면 순위표를 만들어 반환, 없으면 null
+    GameTickMessage tick(long now) {
+        if (!dirty) {
+            return null;
+        }
+        dirty = false;
+
+        int players = playerIds.length;
+        int[] progress = new int[players];
+        int[] wpm = new int[players];
+        int[] accuracy = new int[players];
+        for (int i = 0; i < players; i++) {
+            progress[i] = length == 0 ? 0 : cursor[i] * 1000 / length;
+            wpm[i] = wpm(i, now);
+            accuracy[i] = accuracyPermille(i);
+        }
+        sortRanking();
+
+        return new GameTickMessage(now - startAt, progress, wpm, accuracy, ranking.clone());
+    }
+
+    // 제한 시간은 RaceEngine이 샤드 타이머로 따로 처리
+    boolean isAllFinished() {
+        return finishedCount == playerIds.length;
+    }
+
+    // 최종 결과 (순위순)
+    List<GameResult> results(long now) {
+        sortRanking();
+
+        List<GameResult> results = new ArrayList<>(playerIds.length);
+        for (int rank = 0; rank < ranking.length; rank++) {
+            int i = ranking[rank];
+            results.add(new GameResult(playerIds[i], rank + 1, wpm(i, now), accuracyPermille(i) / 1000.0, finishedAt[i] != 0));
+        }
+        return results;
+    }
+
+    // 끝낸 사람은 먼저 끝낸 순, 못 끝낸 사람은 많이 친 순 (삽입 정렬, 최대 인원이 작아서 충분)
+    private void sortRanking() {
+        for (int i = 1; i < ranking.length; i++) {
+            int current = ranking[i];
+            int j = i - 1;
+            while (j >= 0 && ahead(current, ranking[j])) {
+                ranking[j + 1] = ranking[j];
+                j--;
+            }
+            ranking[j + 1] = current;
+        }
+    }
+
+    private boolean ahead(int a, int b) {
+        boolean aFinished = finishedAt[a] != 0;
+        boolean bFinished = finishedAt[b] != 0;
+        if (aFinished != bFinished) {
+            return aFinished;
+        }
+        if (aFinished) {
+            return finishedAt[a] < finishedAt[b];
+        }
+        return cursor[a] > cursor[b];
+    }
+
+    // WPM = (글자 수 / 5) / 분, 끝낸 사람은 끝낸 시점 기준
+    private int wpm(int index, long now) {
+        long end = finishedAt[index] != 0 ? finishedAt[index] : now;
+        long elapsed = end - startAt;
+        if (elapsed <= 0) {
+            return 0;
+        }
+        return (int) (cursor[index] * 12_000L / elapsed);
+    }
+
+    private int accuracyPermille(int index) {
+        int typed = cursor[index] + errors[index];
+        return typed == 0 ? 1000 : cursor[index] * 1000 / typed;
+    }
+
+    private int indexOf(String userId) {
+        for (int i = 0; i < playerIds.length; i++) {
+            if (playerIds[i].equals(userId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
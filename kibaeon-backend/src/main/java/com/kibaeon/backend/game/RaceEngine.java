@@ -0,0 +1,267 @@
+package com.kibaeon.backend.game;
+
+import com.kibaeon.backend.game.dto.GameFinishedMessage;
+import com.kibaeon.backend.game.dto.GameResult;
+import com.kibaeon.backend.game.dto.GameStartedMessage;
+import com.kibaeon.backend.game.dto.GameTickMessage;
+import com.kibaeon.backend.metrics.FailureMetrics;
+import com.kibaeon.backend.realtime.ClusterBroadcaster;
+import com.kibaeon.backend.room.LobbyFeed;
+import com.kibaeon.backend.room.RoomRedisRepository;
+import com.kibaeon.backend.room.RoomShards;
+import com.kibaeon.backend.sentence.Sentence;
+import com.kibaeon.backend.sentence.SentenceService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 서버 기준 타자 레이스 엔진
+// 레이스는 방 샤드(RoomShards)에 나뉘어 있고, 진행 상황 반영과 틱(50ms)이 모두 그 샤드 스레드에서만 일어나서 락이 없음
+// 클라이언트 진행 상황은 받는 즉시 배열에만 반영하고, 틱마다 바뀐 레이스의 순위표만 한 번씩 보냄
+// 방마다 스레드나 타이머를 만들지 않음 (샤드 수만큼의 스레드가 모든 레이스를 돎)
+// 라운드 제한 시간은 샤드의 타이밍 휠에 걸어두고, 전원이 먼저 완주하면 취소
+// 라운드가 끝나면 Redis/DB 작업(결과 전송, 라운드 마무리, 다음 문장 조회, 이벤트 발행)은 샤드 밖에서 하고, 다음 라운드만 샤드에서 시작
+// 레이스는 시작한 서버가 들고 있고, 다른 서버에 붙은 플레이어의 진행 상황은 race:progress:{roomId} 채널로 넘어옴
+@Component
+@RequiredArgsConstructor
+public class RaceEngine {
+    public static final String GAME_TOPIC_PREFIX = "/topic/games/";
+    static final long TICK_MILLIS = 50;
+    static final long COUNTDOWN_MILLIS = 3_000;
+    static final long TIME_LIMIT_MILLIS = 180_000;
+    private static final String PROGRESS_CHANNEL_PREFIX = "race:progress:";
+    private static final String ROUND_TIMEOUT = "round-timeout";
+
+    private final ClusterBroadcaster broadcaster;
+    private final RoomRedisRepository roomRepository;
+    private final SentenceService sentenceService;
+    private final LobbyFeed lobbyFeed;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RoomShards shards;
+    private final FailureMetrics failureMetrics;
+
+    // 샤드별 레이스 (해당 샤드 스레드만 읽고 씀)
+    private List<Map<String, Race>> racesByShard;
+    // 이 서버에서 진행 중인 방 (다른 스레드에서 조회용, 시작 요청부터 마지막 라운드가 끝날 때까지)
+    private final Set<String> running = ConcurrentHashMap.newKeySet();
+    // 이 서버가 진행 중인 방의 진행 상황 수신 구독 (라운드가 이어지는 동안 유지)
+    private final Map<String, AutoCloseable> progressRoutes = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void startTicker() {
+        racesByShard = new ArrayList<>(shards.shardCount());
+        for (int i = 0; i < shards.shardCount(); i++) {
+            racesByShard.add(new HashMap<>());
+        }
+        shards.schedulePeriodic(TICK_MILLIS, this::tick);
+    }
+
+    @PreDestroy
+    void stopTicker() {
+        progressRoutes.keySet().forEach(this::closeProgressRoute);
+    }
+
+    // 라운드 시작, 방 플레이어 전원에게 문장과 시작 시각 전송
+    // begin보다 먼저 running에 넣어서, 그 사이 온 진행 상황도 같은 샤드 큐로 begin 뒤에 들어가게 함
+    public void start(String roomId, List<String> players, Sentence sentence, int round, int rounds) {
+        Race race = newRace(roomId, players, sentence, round, rounds);
+        running.add(roomId);
+        shards.execute(roomId, () -> begin(race, sentence));
+    }
+
+    private Race newRace(String roomId, List<String> players, Sentence sentence, int round, int rounds) {
+        long startAt = System.currentTimeMillis() + COUNTDOWN_MILLIS;
+        String[] playerIds = players.toArray(new String[0]);
+        return new Race(roomId, sentence.getId(), playerIds, sentence.getContent().length(), startAt, round, rounds);
+    }
+
+    // 샤드 스레드에서 실행
+    private void begin(Race race, Sentence sentence) {
+        String roomId = race.getRoomId();
+        racesOf(roomId).put(roomId, race);
+        running.add(roomId);
+        openProgressRoute(roomId);
+        shards.schedule(roomId, ROUND_TIMEOUT, race.getStartAt() + TIME_LIMIT_MILLIS - System.currentTimeMillis(),
+                () -> finish(race, System.currentTimeMillis()));
+        broadcaster.send(GAME_TOPIC_PREFIX + roomId, new GameStartedMessage(sentence.getId(), sentence.getContent(),
+                List.of(race.getPlayerIds()), race.getStartAt(), race.getRound(), race.getRounds()));
+    }
+
+    // 진행 상황 반영 (브로드캐스트는 다음 틱에서)
+    // 이 서버에 없는 레이스면 레이스를 들고 있는 서버로 넘김
+    public void submitProgress(String roomId, String userId, int cursor, int errors) {
+        if (running.contains(roomId)) {
+            shards.execute(roomId, () -> update(roomId, userId, cursor, errors));
+        } else if (broadcaster.isRedisFanout()) {
+            broadcaster.publishRaw(PROGRESS_CHANNEL_PREFIX + roomId, userId + "," + cursor + "," + errors);
+        }
+    }
+
+    private void openProgressRoute(String roomId) {
+        if (!broadcaster.isRedisFanout()) {
+            return;
+        }
+        progressRoutes.computeIfAbsent(roomId, id ->
+                broadcaster.listen(PROGRESS_CHANNEL_PREFIX + id, body -> onForwardedProgress(id, body)));
+    }
+
+    private void closeProgressRoute(String roomId) {
+        AutoCloseable route = progressRoutes.remove(roomId);
+        if (route != null) {
+            try {
+                route.close();
+            } catch (Exception e) {
+                // 구독 해제 실패는 다음 재연결 때 정리됨
+            }
+        }
+    }
+
+    // "userId,cursor,errors"
+    private void onForwardedProgress(String roomId, String body) {
+        String[] parts = body.split(",");
+        if (parts.length != 3) {
+            return;
+        }
+        try {
+            int cursor = Integer.parseInt(parts[1]);
+            int errors = Integer.parseInt(parts[2]);
+            shards.execute(roomId, () -> update(roomId, parts[0], cursor, errors));
+        } catch (NumberFormatException e) {
+            // 잘못된 메시지는 무시
+        }
+    }
+
+    // 샤드 스레드에서 실행
+    private void update(String roomId, String userId, int cursor, int errors) {
+        Race race = racesOf(roomId).get(roomId);
+        if (race != null) {
+            race.update(userId, cursor, errors, System.currentTimeMillis());
+        }
+    }
+
+    private Map<String, Race> racesOf(String roomId) {
+        return racesByShard.get(shards.shardOf(roomId));
+    }
+
+    public boolean isRunning(String roomId) {
+        return running.contains(roomId);
+    }
+
+    // 샤드 하나의 틱 (그 샤드 스레드에서 실행)
+    void tick(int shard) {
+        long now = System.currentTimeMillis();
+        List<Race> over = null;
+        for (Race race : racesByShard.get(shard).values()) {
+            try {
+                GameTickMessage tick = race.tick(now);
+                if (tick != null) {
+                    broadcaster.send(GAME_TOPIC_PREFIX + race.getRoomId(), tick);
+                }
+                if (race.isAllFinished()) {
+                    if (over == null) {
+                        over = new ArrayList<>();
+                    }
+                    over.add(race);
+                }
+            } catch (RuntimeException e) {
+                // 한 방의 실패가 다른 방 틱을 막지 않도록 다음 레이스로 넘어감
+                failureMetrics.record("race", e);
+            }
+        }
+        if (over != null) {
+            for (Race race : over) {
+                try {
+                    finish(race, now);
+                } catch (RuntimeException e) {
+                    // 다음 레이스로 넘어감
+                    failureMetrics.record("race", e);
+                }
+            }
+        }
+    }
+
+    // 샤드 스레드에서 실행, 레이스를 내리고 나머지는 샤드 밖에서
+    private void finish(Race race, long now) {
+        String roomId = race.getRoomId();
+        if (!racesOf(roomId).remove(roomId, race)) {
+            return;
+        }
+        shards.cancel(roomId, ROUND_TIMEOUT);
+
+        List<GameResult> results = race.results(now);
+        shards.offload(roomId, () -> completeRound(race, results, now), (next, error) -> {
+            if (next != null) {
+                begin(newRace(roomId, next.playerIds(), next.sentence(), next.round(), race.getRounds()), next.sentence());
+                return;
+            }
+            // 마지막 라운드였거나 마무리에 실패한 경우
+            running.remove(roomId);
+            closeProgressRoute(roomId);
+            if (error != null) {
+                failureMetrics.record("race", error);
+                shards.offload(() -> abandon(roomId));
+            }
+        });
+    }
+
+    // 샤드 밖에서 실행, 라운드 마무리(finish.lua, 다음 문장 조회 등)에 실패하면 레이스 없이 PLAYING에 남지 않도록 대기 상태로 되돌림
+    private void abandon(String roomId) {
+        try {
+            roomRepository.endGame(roomId);
+            lobbyFeed.updated(roomId);
+        } catch (RuntimeException e) {
+            // 남은 방은 RoomReaper가 정리
+            failureMetrics.record("race", e);
+        }
+    }
+
+    // 샤드 밖에서 실행, 남은 라운드가 있으면 다음 라운드 정보 반환 (그 사이 나간 플레이어는 빠짐)
+    private NextRace completeRound(Race race, List<GameResult> results, long now) {
+        String roomId = race.getRoomId();
+        broadcaster.send(GAME_TOPIC_PREFIX + roomId, new GameFinishedMessage(results, race.getRound(), race.getRounds()));
+
+        RoomRedisRepository.NextRound next = roomRepository.finishRound(roomId);
+        if (next == null) {
+            // 대기 상태로 돌아감
+            lobbyFeed.updated(roomId);
+        }
+
+        // finish.lua 뒤에 발행 (받는 쪽이 대기 상태로 돌아온 방을 보도록)
+        eventPublisher.publishEvent(new GameFinishedEvent(
+                UUID.randomUUID().toString(),
+                roomId,
+                race.getSentenceId(),
+                race.getRound(),
+                toLocalDateTime(race.getStartAt()),
+                toLocalDateTime(now),
+                results
+        ));
+
+        if (next == null) {
+            return null;
+        }
+        // 덱의 다음 문장
+        Sentence sentence = sentenceService.getSentence(next.sentenceId());
+        return new NextRace(next.playerIds(), sentence, next.round());
+    }
+
+    private LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private record NextRace(List<String> playerIds, Sentence sentence, int round) {
+    }
+}
@@ -0,0 +1,293 @@
+package com.kibaeon.backend.game;
+
+import com.kibaeon.backend.realtime.ClusterBroadcaster;
+import com.kibaeon.backend.room.Room;
+import com.kibaeon.backend.room.RoomErrorCode;
+import com.kibaeon.backend.room.RoomEventPublisher;
+import com.kibaeon.backend.room.RoomException;
+import com.kibaeon.backend.room.RoomRedisRepository;
+import com.kibaeon.backend.room.RoomService;
+import com.kibaeon.backend.room.RoomShards;
+import com.kibaeon.backend.room.RoomStatus;
+import com.kibaeon.backend.room.dto.RoomEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 방 생명주기 타이머
+// 방장 제외 전원이 준비되면 카운트다운 뒤 자동 시작 (start.lua가 WAITING -> PLAYING 전환과 startedAt 기록)
+// 라운드 제한 시간은 RaceEngine이 같은 샤드 타이머로 처리 (마지막 라운드가 끝나면 finish.lua가 WAITING으로 되돌림)
+// 대기 중에 준비하지 않고 오래 머무는 플레이어는 강퇴 (준비를 푼 시각은 ready 해시에 있음)
+// 방 하나의 타이머는 한 서버(room:{roomId}:timer-owner)만 들고, 다른 서버에서 받은 방 이벤트는 room:timers:{서버 id} 채널로 넘김
+// 주인 서버가 내려가면 기한이 지난 뒤 다음 이벤트를 받은 서버가 새 주인이 됨
+// 타이머 등록/취소는 방 샤드 스레드에서만 하고, 방 조회나 시작/강퇴 같은 Redis/DB 작업은 샤드 밖에서 함
+@Component
+@RequiredArgsConstructor
+public class RoomLifecycleTimers {
+    private static final String COUNTDOWN = "countdown";
+    private static final String AFK_PREFIX = "afk:";
+    private static final String CHANNEL_PREFIX = "room:timers:";
+    // 주인 기한은 가장 긴 타이머보다 이만큼 길게 (타이머가 남아 있는 동안 주인이 바뀌지 않도록)
+    private static final long OWNER_LEASE_MARGIN_MILLIS = 30_000;
+
+    private final RoomShards shards;
+    private final RoomRedisRepository roomRepository;
+    private final RoomService roomService;
+    private final GameService gameService;
+    private final RoomEventPublisher roomEventPublisher;
+    private final ClusterBroadcaster broadcaster;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    // 방별로 진행 중인 마지막 시작 조건 확인 번호 (늦게 끝난 이전 확인 결과는 버림)
+    // 결과를 반영하면 바로 빠지므로 확인이 진행 중인 방만 남음
+    private final Map<String, Long> evaluations = new ConcurrentHashMap<>();
+    private final AtomicLong evaluationSequence = new AtomicLong();
+    private AutoCloseable route;
+
+    // 전원 준비 후 자동 시작까지 (0 이하면 자동 시작 안 함)
+    @Value("${room.auto-start-delay-ms:5000}")
+    private long autoStartDelayMillis;
+
+    // 준비하지 않고 이만큼 지나면 강퇴 (0 이하면 강퇴 안 함)
+    @Value("${room.afk-ms:120000}")
+    private long afkMillis;
+
+    // 방에 걸 타이머 명령 (주인 서버에서 실행)
+    private enum Command {
+        // 시작 조건을 다시 확인해서 카운트다운을 걸거나 취소
+        EVALUATE,
+        ARM_AFK,
+        DISARM_AFK,
+        // 방이 사라짐
+        CANCEL
+    }
+
+    @PostConstruct
+    void listenForwarded() {
+        if (broadcaster.isRedisFanout()) {
+            route = broadcaster.listen(CHANNEL_PREFIX + instanceId, this::onForwarded);
+        }
+    }
+
+    @PreDestroy
+    void closeRoute() {
+        if (route != null) {
+            try {
+                route.close();
+            } catch (Exception e) {
+                // 종료 중이라 무시
+            }
+        }
+    }
+
+    @EventListener
+    public void onRoomEvent(RoomEvent event) {
+        String roomId = event.roomId();
+        String userId = event.userId();
+        switch (event.type()) {
+            case PLAYER_JOINED -> dispatch(roomId, userId, Command.ARM_AFK, Command.EVALUATE);
+            case READY_CHANGED -> dispatch(roomId, userId,
+                    Boolean.TRUE.equals(event.ready()) ? Command.DISARM_AFK : Command.ARM_AFK, Command.EVALUATE);
+            case PLAYER_LEFT, PLAYER_KICKED -> dispatch(roomId, userId, Command.DISARM_AFK, Command.EVALUATE);
+            // 이전 방장은 이제 일반 플레이어라 잠수 타이머를 걸고, 새 방장은 풀어줌
+            case HOST_CHANGED -> {
+                dispatch(roomId, userId, Command.ARM_AFK, Command.EVALUATE);
+                dispatch(roomId, event.hostId(), Command.DISARM_AFK);
+            }
+            // 남은 잠수 타이머는 실행될 때 방이 없으면 그냥 끝남
+            case ROOM_DELETED -> dispatch(roomId, null, Command.CANCEL);
+            default -> {
+                // 카운트다운 이벤트는 여기서 발행한 것
+            }
+        }
+    }
+
+    // 마지막 라운드가 끝나 대기 상태로 돌아오면 준비가 모두 풀리므로 잠수 타이머를 다시 걺
+    @EventListener
+    public void onGameFinished(GameFinishedEvent event) {
+        if (afkMillis <= 0) {
+            return;
+        }
+        Room room = roomRepository.findById(event.roomId());
+        if (room == null || room.getStatus() != RoomStatus.WAITING) {
+            return;
+        }
+        for (String playerId : room.getPlayerIds()) {
+            if (!playerId.equals(room.getHostId())) {
+                dispatch(room.getRoomId(), playerId, Command.ARM_AFK);
+            }
+        }
+    }
+
+    // 주인 서버면 바로 실행, 아니면 주인 서버로 넘김 (호출한 스레드에서 Redis 한 번)
+    private void dispatch(String roomId, String userId, Command... commands) {
+        if (autoStartDelayMillis <= 0 && afkMillis <= 0) {
+            return;
+        }
+        if (broadcaster.isRedisFanout()) {
+            String owner = roomRepository.claimTimerOwner(roomId, instanceId, leaseMillis());
+            if (!instanceId.equals(owner)) {
+                List<String> parts = new ArrayList<>();
+                parts.add(roomId);
+                parts.add(userId != null ? userId : "");
+                for (Command command : commands) {
+                    parts.add(command.name());
+                }
+                broadcaster.publishRaw(CHANNEL_PREFIX + owner, String.join(",", parts));
+                return;
+            }
+        }
+        for (Command command : commands) {
+            apply(roomId, userId, command);
+        }
+    }
+
+    // "roomId,userId,명령,명령..." (주인 확인은 다시 함, 그 사이 주인이 바뀌었으면 새 주인에게 넘어감)
+    private void onForwarded(String body) {
+        String[] parts = body.split(",", -1);
+        if (parts.length < 3) {
+            return;
+        }
+        try {
+            Command[] commands = new Command[parts.length - 2];
+            for (int i = 2; i < parts.length; i++) {
+                commands[i - 2] = Command.valueOf(parts[i]);
+            }
+            String userId = parts[1].isEmpty() ? null : parts[1];
+            shards.offload(() -> dispatch(parts[0], userId, commands));
+        } catch (IllegalArgumentException e) {
+            // 잘못된 메시지는 무시
+        }
+    }
+
+    private void apply(String roomId, String userId, Command command) {
+        switch (command) {
+            case EVALUATE -> evaluate(roomId);
+            case ARM_AFK -> {
+                if (userId != null) {
+                    armAfk(roomId, userId, afkMillis);
+                }
+            }
+            case DISARM_AFK -> {
+                if (userId != null) {
+                    shards.execute(roomId, () -> shards.cancel(roomId, AFK_PREFIX + userId));
+                }
+            }
+            case CANCEL -> {
+                evaluations.remove(roomId);
+                shards.execute(roomId, () -> shards.cancel(roomId, COUNTDOWN));
+            }
+        }
+    }
+
+    private long leaseMillis() {
+        return Math.max(autoStartDelayMillis, afkMillis) + OWNER_LEASE_MARGIN_MILLIS;
+    }
+
+    // 시작 조건 확인은 샤드 밖에서, 카운트다운을 걸거나 취소하는 것만 샤드에서 (이미 돌고 있으면 그대로 둠)
+    private void evaluate(String roomId) {
+        if (autoStartDelayMillis <= 0) {
+            return;
+        }
+        long sequence = evaluationSequence.incrementAndGet();
+        evaluations.put(roomId, sequence);
+
+        shards.offload(roomId, () -> roomRepository.findById(roomId), (room, error) -> {
+            // 그 사이 새 확인이 시작됐거나 방이 사라졌으면 버림
+            if (!evaluations.remove(roomId, sequence) || error != null) {
+                return;
+            }
+            boolean startable = room != null
+                    && room.getStatus() == RoomStatus.WAITING
+                    && room.getPlayerIds().size() >= 2
+                    && room.isAllReady();
+
+            if (startable) {
+                if (!shards.isScheduled(roomId, COUNTDOWN)) {
+                    shards.schedule(roomId, COUNTDOWN, autoStartDelayMillis, () -> shards.offload(() -> autoStart(roomId)));
+                    long startsAt = System.currentTimeMillis() + autoStartDelayMillis;
+                    shards.offload(() -> roomEventPublisher.publish(RoomEvent.countdownStarted(roomId, startsAt)));
+                }
+            } else if (shards.cancel(roomId, COUNTDOWN)) {
+                shards.offload(() -> roomEventPublisher.publish(RoomEvent.countdownCancelled(roomId)));
+            }
+        });
+    }
+
+    // 샤드 밖에서 실행, 조건은 start.lua가 한 번 더 확인
+    private void autoStart(String roomId) {
+        Room room = roomRepository.findById(roomId);
+        if (room == null || room.getStatus() != RoomStatus.WAITING) {
+            return;
+        }
+        try {
+            gameService.startGame(roomId, room.getHostId());
+        } catch (RuntimeException e) {
+            // 방장이 먼저 시작했으면 카운트다운이 취소된 게 아님
+            if (hasErrorCode(e, RoomErrorCode.GAME_IN_PROGRESS)) {
+                return;
+            }
+            // 그 사이 다른 서버에서 준비가 풀린 경우 등
+            roomEventPublisher.publish(RoomEvent.countdownCancelled(roomId));
+        }
+    }
+
+    private static boolean hasErrorCode(Throwable e, RoomErrorCode errorCode) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RoomException roomException && roomException.getErrorCode() == errorCode) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void armAfk(String roomId, String userId, long delayMillis) {
+        if (afkMillis <= 0) {
+            return;
+        }
+        shards.execute(roomId, () -> shards.schedule(roomId, AFK_PREFIX + userId, delayMillis,
+                () -> shards.offload(() -> kickIfIdle(roomId, userId))));
+    }
+
+    // 샤드 밖에서 실행, 아직 대기 중이고 afkMillis 넘게 준비하지 않은 방장 아닌 플레이어만 강퇴
+    // 타이머가 걸린 뒤에 준비했다가 다시 풀었으면 푼 시각부터 남은 시간만큼 다시 걺
+    private void kickIfIdle(String roomId, String userId) {
+        try {
+            Room room = roomRepository.findById(roomId);
+            if (room == null
+                    || room.getStatus() != RoomStatus.WAITING
+                    || !room.getPlayerIds().contains(userId)
+                    || userId.equals(room.getHostId())) {
+                return;
+            }
+            Long unreadySince = roomRepository.findUnreadySince(roomId, userId);
+            if (unreadySince == null) {
+                return;
+            }
+            long remaining = unreadySince + afkMillis - System.currentTimeMillis();
+            if (remaining > 0) {
+                // 주인 기한도 같이 연장, 그 사이 주인이 바뀌었으면 새 주인에게 넘김
+                if (!broadcaster.isRedisFanout()
+                        || instanceId.equals(roomRepository.claimTimerOwner(roomId, instanceId, leaseMillis()))) {
+                    armAfk(roomId, userId, remaining);
+                } else {
+                    dispatch(roomId, userId, Command.ARM_AFK);
+                }
+                return;
+            }
+            roomService.kickPlayer(roomId, room.getHostId(), userId);
+        } catch (RuntimeException e) {
+            // 그 사이 나갔거나 방장이 바뀐 경우
+        }
+    }
+}
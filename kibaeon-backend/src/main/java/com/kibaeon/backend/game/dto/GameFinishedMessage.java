@@ -0,0 +1,17 @@
+package com.kibaeon.backend.game.dto;
+
+import com.kibaeon.backend.game.GameMessageType;
+
+import java.util.List;
+
+public record GameFinishedMessage(
+        GameMessageType type,
+        List<GameResult> results,  // 순위순
+        int round,
+        int rounds,
+        boolean lastRound          // false면 곧 다음 라운드의 STARTED가 옴
+) {
+    public GameFinishedMessage(List<GameResult> results, int round, int rounds) {
+        this(GameMessageType.FINISHED, results, round, rounds, round >= rounds);
+    }
+}
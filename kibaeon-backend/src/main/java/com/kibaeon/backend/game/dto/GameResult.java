@@ -0,0 +1,11 @@
+package com.kibaeon.backend.game.dto;
+
+// 플레이어 한 명의 최종 결과
+public record GameResult(
+        String userId,
+        int rank,
+        int wpm,
+        double accuracy,
+        boolean finished   // 제한 시간 안에 문장을 끝까지 쳤는지
+) {
+}
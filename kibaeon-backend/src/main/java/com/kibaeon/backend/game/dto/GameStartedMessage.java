@@ -0,0 +1,20 @@
+package com.kibaeon.backend.game.dto;
+
+import com.kibaeon.backend.game.GameMessageType;
+
+import java.util.List;
+
+// 게임 시작 알림, 이후 TICK 메시지의 배열은 playerIds 순서를 따름
+public record GameStartedMessage(
+        GameMessageType type,
+        Long sentenceId,
+        String content,
+        List<String> playerIds,
+        long startAt,  // 카운트다운이 끝나고 입력을 받기 시작하는 시각 (epoch millis)
+        int round,     // 현재 라운드 (1부터)
+        int rounds     // 총 라운드 수
+) {
+    public GameStartedMessage(Long sentenceId, String content, List<String> playerIds, long startAt, int round, int rounds) {
+        this(GameMessageType.STARTED, sentenceId, content, playerIds, startAt, round, rounds);
+    }
+}
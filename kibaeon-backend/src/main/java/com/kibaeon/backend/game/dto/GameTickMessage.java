@@ -0,0 +1,17 @@
+package com.kibaeon.backend.game.dto;
+
+import com.kibaeon.backend.game.GameMessageType;
+
+// 틱마다 보내는 압축된 순위표 (배열 인덱스 = 시작 메시지의 playerIds 순서)
+public record GameTickMessage(
+        GameMessageType type,
+        long elapsed,       // 시작 후 경과 시간 (ms)
+        int[] progress,     // 진행률 (천분율)
+        int[] wpm,
+        int[] accuracy,     // 정확도 (천분율)
+        int[] ranking       // 순위대로 나열한 플레이어 인덱스
+) {
+    public GameTickMessage(long elapsed, int[] progress, int[] wpm, int[] accuracy, int[] ranking) {
+        this(GameMessageType.TICK, elapsed, progress, wpm, accuracy, ranking);
+    }
+}
@@ -0,0 +1,6 @@
+package com.kibaeon.backend.game.dto;
+
+// 클라이언트가 약 50ms마다 묶어서 보내는 진행 상황
+// cursor: 지금까지 맞게 친 글자 수, errors: 누적 오타 수
+public record ProgressFrame(int cursor, int errors) {
+}
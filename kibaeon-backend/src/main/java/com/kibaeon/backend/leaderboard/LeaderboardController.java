@@ -0,0 +1,44 @@
+package com.kibaeon.backend.leaderboard;
+
+import com.kibaeon.backend.leaderboard.dto.LeaderboardEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/leaderboards")
+@RequiredArgsConstructor
+public class LeaderboardController {
+    private final LeaderboardService leaderboardService;
+
+    // 상위 랭킹 (type: MAX_WPM, AVERAGE_WPM, WINS)
+    @GetMapping("/{type}")
+    public ResponseEntity<List<LeaderboardEntry>> getTop(@PathVariable LeaderboardType type,
+                                                         @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(leaderboardService.getTop(type, size));
+    }
+
+    // 내 등수, 아직 랭킹에 없으면 204
+    @GetMapping("/{type}/me")
+    public ResponseEntity<LeaderboardEntry> getMyRank(@PathVariable LeaderboardType type, Authentication authentication) {
+        Long userId = Long.parseLong(authentication.getName());
+        LeaderboardEntry entry = leaderboardService.getMyRank(type, userId);
+
+        if (entry == null) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(entry);
+    }
+
+    // 내 앞뒤 range명
+    @GetMapping("/{type}/around-me")
+    public ResponseEntity<List<LeaderboardEntry>> getAroundMe(@PathVariable LeaderboardType type,
+                                                              @RequestParam(defaultValue = "5") int range,
+                                                              Authentication authentication) {
+        Long userId = Long.parseLong(authentication.getName());
+        return ResponseEntity.ok(leaderboardService.getAroundMe(type, userId, range));
+    }
+}
@@ -0,0 +1,88 @@
+package com.kibaeon.backend.leaderboard;
+
+import com.kibaeon.backend.user.UserRepository;
+import com.kibaeon.backend.user.UserSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+// users 테이블을 id 순으로 청크 단위로 읽어서 랭킹을 다시 채움 (Redis가 비워졌을 때 복구용)
+// 한 번에 CHUNK_SIZE명만 메모리에 올리고, 다 채운 뒤에 기존 랭킹과 교체
+// 여러 서버 중 Redis 락(SET NX PX)을 잡은 한 곳만 실행하고, 임시 키에는 그 실행의 토큰을 붙임
+// 읽는 동안 전적이 바뀐 유저는 교체 뒤 DB에서 다시 읽어 반영 (교체로 최신 점수를 덮어쓰지 않도록)
+@Component
+@RequiredArgsConstructor
+public class LeaderboardRebuilder {
+    private static final int CHUNK_SIZE = 1_000;
+    // 교체 뒤 다시 반영을 몇 번까지 반복할지 (그 사이에도 계속 바뀌는 유저는 다음 갱신이 덮어씀)
+    private static final int MAX_REPLAY_ROUNDS = 10;
+
+    private final UserRepository userRepository;
+    private final LeaderboardRepository leaderboardRepository;
+
+    // 재구축 락/임시 키 만료 시간 (재구축이 이보다 오래 걸리면 교체하지 않고 버림)
+    @Value("${leaderboard.rebuild-lock-ms:600000}")
+    private long lockMillis;
+
+    // 서버 시작 시 랭킹이 비어 있으면 재구축
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfMissing() {
+        for (LeaderboardType type : LeaderboardType.values()) {
+            if (!leaderboardRepository.exists(type)) {
+                rebuild();
+                return;
+            }
+        }
+    }
+
+    // 주기적으로 DB 기준으로 맞춤 (기본: 매일 새벽 5시)
+    // 다른 서버가 재구축 중이면 건너뛰고 -1 반환
+    @Scheduled(cron = "${leaderboard.rebuild-cron:0 0 5 * * *}")
+    public int rebuild() {
+        String token = UUID.randomUUID().toString();
+        if (!leaderboardRepository.tryLockRebuild(token, lockMillis)) {
+            return -1;
+        }
+        try {
+            int total = 0;
+            long lastId = 0;
+            List<UserSummary> chunk;
+            do {
+                chunk = userRepository.findSummariesAfter(lastId, Limit.of(CHUNK_SIZE));
+                if (!chunk.isEmpty()) {
+                    leaderboardRepository.addToRebuild(token, chunk, lockMillis);
+                    lastId = chunk.get(chunk.size() - 1).id();
+                    total += chunk.size();
+                }
+            } while (chunk.size() == CHUNK_SIZE);
+
+            if (!leaderboardRepository.swapRebuild(token)) {
+                // 락이 만료돼 다른 서버가 재구축 중
+                return -1;
+            }
+            replayDirty();
+            return total;
+        } finally {
+            leaderboardRepository.clearRebuild(token);
+            leaderboardRepository.unlockRebuild(token);
+        }
+    }
+
+    // 락을 쥔 채로 dirty를 비우므로, 그 사이 바뀐 유저도 다시 쌓였다가 다음 바퀴에 반영됨
+    private void replayDirty() {
+        for (int round = 0; round < MAX_REPLAY_ROUNDS; round++) {
+            List<Long> userIds = leaderboardRepository.popRebuildDirty(CHUNK_SIZE);
+            if (userIds.isEmpty()) {
+                return;
+            }
+            leaderboardRepository.replay(userRepository.findSummariesByIdIn(userIds));
+        }
+    }
+}
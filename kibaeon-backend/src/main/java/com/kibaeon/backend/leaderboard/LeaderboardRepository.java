@@ -0,0 +1,193 @@
+package com.kibaeon.backend.leaderboard;
+
+import com.kibaeon.backend.user.UserSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+// 랭킹 sorted set (member = userId, score = 기록)
+// 조회/갱신 모두 O(log n), 높은 점수가 1등이라 REV 명령 사용
+@Repository
+@RequiredArgsConstructor
+public class LeaderboardRepository {
+    private static final String REBUILD_SUFFIX = ":rebuild:";
+    private static final String REBUILD_LOCK_KEY = "leaderboard:rebuild:lock";
+    // 재구축 중에 점수가 바뀐 유저 (재구축이 끝나면 DB에서 다시 읽어 반영)
+    private static final String REBUILD_DIRTY_KEY = "leaderboard:rebuild:dirty";
+
+    private static final RedisScript<Long> UPDATE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/leaderboard/update.lua"), Long.class);
+    private static final RedisScript<Long> SWAP_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/leaderboard/swap.lua"), Long.class);
+    private static final RedisScript<Long> UNLOCK_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/leaderboard/unlock.lua"), Long.class);
+
+    private static final List<String> UPDATE_KEYS = updateKeys();
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    // 유저 한 명의 모든 랭킹 점수 갱신 (파이프라인 한 번)
+    public void update(UserSummary user) {
+        updateAll(List.of(user));
+    }
+
+    // 재구축 중이면 update.lua가 dirty에도 기록
+    public void updateAll(List<UserSummary> users) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+                for (UserSummary user : users) {
+                    operations.execute(UPDATE_SCRIPT, UPDATE_KEYS, scoreArgs(user));
+                }
+                return null;
+            }
+        });
+    }
+
+    // 0부터 시작하는 등수 범위 [start, end]
+    public List<Ranked> range(LeaderboardType type, long start, long end) {
+        Set<ZSetOperations.TypedTuple<Object>> tuples =
+                redisTemplate.opsForZSet().reverseRangeWithScores(type.getKey(), start, end);
+
+        List<Ranked> ranked = new ArrayList<>();
+        if (tuples == null) {
+            return ranked;
+        }
+        long rank = start;
+        for (ZSetOperations.TypedTuple<Object> tuple : tuples) {
+            ranked.add(new Ranked(rank++, Long.valueOf((String) tuple.getValue()), tuple.getScore()));
+        }
+        return ranked;
+    }
+
+    // 0부터 시작하는 등수, 랭킹에 없으면 null
+    public Long rankOf(LeaderboardType type, Long userId) {
+        return redisTemplate.opsForZSet().reverseRank(type.getKey(), String.valueOf(userId));
+    }
+
+    public Double scoreOf(LeaderboardType type, Long userId) {
+        return redisTemplate.opsForZSet().score(type.getKey(), String.valueOf(userId));
+    }
+
+    public boolean exists(LeaderboardType type) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(type.getKey()));
+    }
+
+    // 재구축: 락을 잡은 서버만, 자기 토큰이 붙은 임시 키에 채운 뒤 swap.lua로 한 번에 교체
+    // (재구축 중에도 기존 랭킹 조회/갱신 가능, 그 사이 바뀐 유저는 dirty에 쌓였다가 교체 뒤 다시 반영)
+
+    // SET NX PX, 잡으면 true
+    public boolean tryLockRebuild(String token, long ttlMillis) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                .setIfAbsent(REBUILD_LOCK_KEY, token, Duration.ofMillis(ttlMillis)));
+    }
+
+    public void unlockRebuild(String token) {
+        redisTemplate.execute(UNLOCK_SCRIPT, List.of(REBUILD_LOCK_KEY), token);
+    }
+
+    // 서버가 중간에 죽어도 남지 않도록 임시 키에도 락과 같은 만료 시간
+    public void addToRebuild(String token, List<UserSummary> users, long ttlMillis) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+                for (LeaderboardType type : LeaderboardType.values()) {
+                    String rebuildKey = rebuildKey(type, token);
+                    for (UserSummary user : users) {
+                        operations.opsForZSet().add(rebuildKey, String.valueOf(user.id()), type.scoreOf(user));
+                    }
+                    operations.expire(rebuildKey, Duration.ofMillis(ttlMillis));
+                }
+                return null;
+            }
+        });
+    }
+
+    public void clearRebuild(String token) {
+        for (LeaderboardType type : LeaderboardType.values()) {
+            redisTemplate.delete(rebuildKey(type, token));
+        }
+    }
+
+    // 락이 아직 내 것이면 교체하고 true, 아니면 임시 키만 지우고 false
+    public boolean swapRebuild(String token) {
+        List<String> keys = new ArrayList<>();
+        keys.add(REBUILD_LOCK_KEY);
+        for (LeaderboardType type : LeaderboardType.values()) {
+            keys.add(rebuildKey(type, token));
+        }
+        for (LeaderboardType type : LeaderboardType.values()) {
+            keys.add(type.getKey());
+        }
+        return Long.valueOf(1).equals(redisTemplate.execute(SWAP_SCRIPT, keys, token));
+    }
+
+    // 재구축 중에 바뀐 유저를 최대 count명 꺼냄
+    public List<Long> popRebuildDirty(int count) {
+        List<Object> members = redisTemplate.opsForSet().pop(REBUILD_DIRTY_KEY, count);
+        List<Long> userIds = new ArrayList<>();
+        if (members != null) {
+            for (Object member : members) {
+                userIds.add(Long.valueOf((String) member));
+            }
+        }
+        return userIds;
+    }
+
+    // 교체 뒤 다시 반영할 때는 dirty에 또 쌓이지 않도록 바로 ZADD
+    public void replay(List<UserSummary> users) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+                for (UserSummary user : users) {
+                    for (LeaderboardType type : LeaderboardType.values()) {
+                        operations.opsForZSet().add(type.getKey(), String.valueOf(user.id()), type.scoreOf(user));
+                    }
+                }
+                return null;
+            }
+        });
+    }
+
+    private static String rebuildKey(LeaderboardType type, String token) {
+        return type.getKey() + REBUILD_SUFFIX + token;
+    }
+
+    private static List<String> updateKeys() {
+        List<String> keys = new ArrayList<>();
+        for (LeaderboardType type : LeaderboardType.values()) {
+            keys.add(type.getKey());
+        }
+        keys.add(REBUILD_LOCK_KEY);
+        keys.add(REBUILD_DIRTY_KEY);
+        return List.copyOf(keys);
+    }
+
+    // userId, 랭킹 키 순서대로 점수
+    private static Object[] scoreArgs(UserSummary user) {
+        LeaderboardType[] types = LeaderboardType.values();
+        Object[] args = new Object[types.length + 1];
+        args[0] = String.valueOf(user.id());
+        for (int i = 0; i < types.length; i++) {
+            args[i + 1] = String.valueOf(types[i].scoreOf(user));
+        }
+        return args;
+    }
+
+    // rank는 0부터
+    public record Ranked(long rank, Long userId, double score) {
+    }
+}
@@ -0,0 +1,89 @@
+package com.kibaeon.backend.leaderboard;
+
+import com.kibaeon.backend.leaderboard.dto.LeaderboardEntry;
+import com.kibaeon.backend.user.UserSummary;
+import com.kibaeon.backend.user.UserSummaryCache;
+import com.kibaeon.backend.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class LeaderboardService {
+    private final LeaderboardRepository leaderboardRepository;
+    private final UserSummaryCache userSummaryCache;
+    private final UserRepository userRepository;
+    private static final int MAX_SIZE = 100;
+    private static final int MAX_RANGE = 25;
+
+    // 상위 N명
+    public List<LeaderboardEntry> getTop(LeaderboardType type, int size) {
+        try {
+            int limit = Math.max(1, Math.min(size, MAX_SIZE));
+            return toEntries(leaderboardRepository.range(type, 0, limit - 1));
+        } catch (Exception e) {
+            throw new RuntimeException("랭킹 조회에 실패했어요. :" + e.getMessage(), e);
+        }
+    }
+
+    // 내 등수 (랭킹에 없으면 null)
+    public LeaderboardEntry getMyRank(LeaderboardType type, Long userId) {
+        try {
+            Long rank = leaderboardRepository.rankOf(type, userId);
+            if (rank == null) {
+                return null;
+            }
+            Double score = leaderboardRepository.scoreOf(type, userId);
+            List<LeaderboardEntry> entries = toEntries(List.of(
+                    new LeaderboardRepository.Ranked(rank, userId, score != null ? score : 0)));
+            return entries.isEmpty() ? null : entries.get(0);
+        } catch (Exception e) {
+            throw new RuntimeException("내 랭킹 조회에 실패했어요. :" + e.getMessage(), e);
+        }
+    }
+
+    // 내 앞뒤 range명씩
+    public List<LeaderboardEntry> getAroundMe(LeaderboardType type, Long userId, int range) {
+        try {
+            Long rank = leaderboardRepository.rankOf(type, userId);
+            if (rank == null) {
+                return List.of();
+            }
+            int window = Math.max(0, Math.min(range, MAX_RANGE));
+            return toEntries(leaderboardRepository.range(type, Math.max(0, rank - window), rank + window));
+        } catch (Exception e) {
+            throw new RuntimeException("주변 랭킹 조회에 실패했어요. :" + e.getMessage(), e);
+        }
+    }
+
+    // 전적이 바뀐 유저의 점수 반영
+    public void update(UserSummary user) {
+        leaderboardRepository.update(user);
+    }
+
+    public void updateAll(List<UserSummary> users) {
+        leaderboardRepository.updateAll(users);
+    }
+
+    // 닉네임, 캐릭터는 유저 캐시에서 한 번에 채움
+    private List<LeaderboardEntry> toEntries(List<LeaderboardRepository.Ranked> ranked) {
+        List<Long> userIds = new ArrayList<>(ranked.size());
+        for (LeaderboardRepository.Ranked row : ranked) {
+            userIds.add(row.userId());
+        }
+        Map<Long, UserSummary> users = userSummaryCache.getAll(userIds, userRepository::findSummariesByIdIn);
+
+        List<LeaderboardEntry> entries = new ArrayList<>(ranked.size());
+        for (LeaderboardRepository.Ranked row : ranked) {
+            UserSummary user = users.get(row.userId());
+            if (user != null) {
+                entries.add(new LeaderboardEntry(row.rank() + 1, row.userId(), user.nickname(), user.characterType(), row.score()));
+            }
+        }
+        return entries;
+    }
+}
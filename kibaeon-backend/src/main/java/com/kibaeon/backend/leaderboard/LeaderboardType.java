@@ -0,0 +1,28 @@
+package com.kibaeon.backend.leaderboard;
+
+import com.kibaeon.backend.user.UserSummary;
+
+// 랭킹 종류별 Redis sorted set 키와 점수
+public enum LeaderboardType {
+    MAX_WPM("leaderboard:max-wpm"),
+    AVERAGE_WPM("leaderboard:average-wpm"),
+    WINS("leaderboard:wins");
+
+    private final String key;
+
+    LeaderboardType(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public double scoreOf(UserSummary user) {
+        return switch (this) {
+            case MAX_WPM -> user.maxWpm();
+            case AVERAGE_WPM -> user.averageWpm();
+            case WINS -> user.winCount();
+        };
+    }
+}
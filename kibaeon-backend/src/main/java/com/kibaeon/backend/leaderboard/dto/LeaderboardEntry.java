@@ -0,0 +1,13 @@
+package com.kibaeon.backend.leaderboard.dto;
+
+import com.kibaeon.backend.user.CharacterType;
+
+// 랭킹 한 줄 (rank는 1부터)
+public record LeaderboardEntry(
+        long rank,
+        Long userId,
+        String nickname,
+        CharacterType characterType,
+        double score
+) {
+}
@@ -0,0 +1,45 @@
+package com.kibaeon.backend.match;
+
+import com.kibaeon.backend.sentence.Sentence;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 끝난 레이스 한 판 (추가만 하고 수정하지 않음)
+// 쓰기는 MatchJdbcRepository에서 JDBC 배치로 하고, 엔티티는 테이블/관계 정의용
+// match_key는 서버에서 만든 판 고유 키 (저장을 다시 시도해도 INSERT IGNORE로 한 번만 들어감)
+@Entity
+@Table(name = "matches", indexes = {
+        @Index(name = "idx_matches_finished_at", columnList = "finished_at")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_matches_match_key", columnNames = "match_key")
+})
+@Getter
+@NoArgsConstructor
+public class Match {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 예전 기록은 키가 없어서 null 허용
+    @Column(name = "match_key", length = 36)
+    private String matchKey;
+
+    @Column(nullable = false, length = 36)
+    private String roomId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "sentence_id")
+    private Sentence sentence;
+
+    @Column(nullable = false)
+    private Integer playerCount;
+    private Integer round;
+
+    @Column(nullable = false)
+    private LocalDateTime startedAt;
+    @Column(name = "finished_at", nullable = false)
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,31 @@
+package com.kibaeon.backend.match;
+
+import com.kibaeon.backend.match.dto.MatchHistoryPageResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/matches")
+@RequiredArgsConstructor
+public class MatchController {
+    private final MatchService matchService;
+
+    // 내 경기 기록
+    @GetMapping("/me")
+    public ResponseEntity<MatchHistoryPageResponse> getMyHistory(@RequestParam(required = false) Long cursor,
+                                                                 @RequestParam(defaultValue = "20") int size,
+                                                                 Authentication authentication) {
+        long userId = Long.parseLong(authentication.getName());
+        return ResponseEntity.ok(matchService.getHistory(userId, cursor, size));
+    }
+
+    // 다른 유저의 경기 기록
+    @GetMapping("/users/{userId}")
+    public ResponseEntity<MatchHistoryPageResponse> getHistory(@PathVariable Long userId,
+                                                               @RequestParam(required = false) Long cursor,
+                                                               @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(matchService.getHistory(userId, cursor, size));
+    }
+}
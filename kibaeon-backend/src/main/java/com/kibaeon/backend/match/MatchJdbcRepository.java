@@ -0,0 +1,139 @@
+package com.kibaeon.backend.match;
+
+import com.kibaeon.backend.game.GameFinishedEvent;
+import com.kibaeon.backend.game.dto.GameResult;
+import com.kibaeon.backend.match.dto.MatchHistoryItem;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 경기 기록 저장소 (JDBC)
+// 여러 판을 모아서 matches, match_participants에 각각 batch INSERT 한 번씩
+@Repository
+@RequiredArgsConstructor
+public class MatchJdbcRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    // 다시 시도한 판은 match_key, 참가 기록은 (match_id, user_id) 유니크 키에 걸려 그대로 둠
+    // INSERT IGNORE와 달리 외래 키 위반 같은 다른 오류는 무시하지 않고 예외로 올라옴
+    private static final String INSERT_MATCH_SQL =
+            "INSERT INTO matches (match_key, room_id, sentence_id, player_count, round, started_at, finished_at) VALUES (?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE match_key = match_key";
+    private static final String INSERT_PARTICIPANT_SQL =
+            "INSERT INTO match_participants (match_id, user_id, placement, wpm, accuracy, finished, finished_at) VALUES (?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE match_id = match_id";
+
+    // 이미 있던 행은 생성 키가 안 나오므로, match_id는 저장 뒤 match_key로 다시 조회
+    @Transactional
+    public void insertAll(List<GameFinishedEvent> games) {
+        jdbcTemplate.batchUpdate(INSERT_MATCH_SQL, games, games.size(), (statement, game) -> {
+            statement.setString(1, game.matchKey());
+            statement.setString(2, game.roomId());
+            if (game.sentenceId() != null) {
+                statement.setLong(3, game.sentenceId());
+            } else {
+                statement.setNull(3, Types.BIGINT);
+            }
+            statement.setInt(4, game.results().size());
+            statement.setInt(5, game.round());
+            statement.setTimestamp(6, Timestamp.valueOf(game.startedAt()));
+            statement.setTimestamp(7, Timestamp.valueOf(game.finishedAt()));
+        });
+
+        List<String> matchKeys = new ArrayList<>(games.size());
+        for (GameFinishedEvent game : games) {
+            matchKeys.add(game.matchKey());
+        }
+        Map<String, Long> matchIds = new HashMap<>();
+        new NamedParameterJdbcTemplate(jdbcTemplate).query(
+                "SELECT id, match_key FROM matches WHERE match_key IN (:keys)",
+                new MapSqlParameterSource("keys", matchKeys),
+                rs -> {
+                    matchIds.put(rs.getString("match_key"), rs.getLong("id"));
+                });
+
+        List<Object[]> participants = new ArrayList<>();
+        for (GameFinishedEvent game : games) {
+            Long matchId = matchIds.get(game.matchKey());
+            if (matchId == null) {
+                // 그 사이 정리 작업이 지운 판 (참가 기록만 남지 않도록 건너뜀)
+                continue;
+            }
+            Timestamp finishedAt = Timestamp.valueOf(game.finishedAt());
+            for (GameResult result : game.results()) {
+                participants.add(new Object[]{
+                        matchId, Long.parseLong(result.userId()), result.rank(), result.wpm(),
+                        result.accuracy(), result.finished(), finishedAt
+                });
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_PARTICIPANT_SQL, participants);
+    }
+
+    // 키셋 페이지 조회: cursor(matchId)보다 오래된 기록 size개, 최신순
+    // (user_id, match_id) 인덱스 범위만 읽기 때문에 OFFSET처럼 앞 페이지를 건너뛰는 비용이 없음
+    public List<MatchHistoryItem> findHistory(long userId, Long cursor, int size) {
+        return jdbcTemplate.query(
+                "SELECT p.match_id, m.room_id, m.sentence_id, m.player_count, p.placement, p.wpm, p.accuracy, p.finished, p.finished_at " +
+                "FROM match_participants p JOIN matches m ON m.id = p.match_id " +
+                "WHERE p.user_id = ? AND p.match_id < ? " +
+                "ORDER BY p.match_id DESC LIMIT ?",
+                (rs, rowNum) -> new MatchHistoryItem(
+                        rs.getLong("match_id"),
+                        rs.getString("room_id"),
+                        rs.getObject("sentence_id", Long.class),
+                        rs.getInt("player_count"),
+                        rs.getInt("placement"),
+                        rs.getInt("wpm"),
+                        rs.getDouble("accuracy"),
+                        rs.getBoolean("finished"),
+                        rs.getTimestamp("finished_at").toLocalDateTime()),
+                userId, cursor != null ? cursor : Long.MAX_VALUE, size);
+    }
+
+    // 보관 기간이 지난 기록 중 가장 오래된 날 (없으면 null)
+    public LocalDate findOldestDayBefore(LocalDateTime cutoff) {
+        List<Timestamp> oldest = jdbcTemplate.queryForList(
+                "SELECT MIN(finished_at) FROM match_participants WHERE finished_at < ?", Timestamp.class,
+                Timestamp.valueOf(cutoff));
+        return oldest.isEmpty() || oldest.get(0) == null ? null : oldest.get(0).toLocalDateTime().toLocalDate();
+    }
+
+    // [from, to) 구간의 기록을 유저별 하루 통계로 합치고 원본 삭제 (한 트랜잭션)
+    @Transactional
+    public int rollup(LocalDate day, LocalDateTime from, LocalDateTime to) {
+        jdbcTemplate.update(
+                "INSERT INTO user_daily_stats (user_id, day, games, wins, wpm_sum, max_wpm, accuracy_sum) " +
+                "SELECT p.user_id, ?, COUNT(*), " +
+                "SUM(CASE WHEN p.placement = 1 AND p.finished AND m.player_count > 1 THEN 1 ELSE 0 END), " +
+                "SUM(p.wpm), MAX(p.wpm), SUM(p.accuracy) " +
+                "FROM match_participants p JOIN matches m ON m.id = p.match_id " +
+                "WHERE p.finished_at >= ? AND p.finished_at < ? " +
+                "GROUP BY p.user_id " +
+                "ON DUPLICATE KEY UPDATE games = games + VALUES(games), wins = wins + VALUES(wins), " +
+                "wpm_sum = wpm_sum + VALUES(wpm_sum), max_wpm = GREATEST(max_wpm, VALUES(max_wpm)), " +
+                "accuracy_sum = accuracy_sum + VALUES(accuracy_sum)",
+                Date.valueOf(day), Timestamp.valueOf(from), Timestamp.valueOf(to));
+
+        int deleted = jdbcTemplate.update(
+                "DELETE FROM match_participants WHERE finished_at >= ? AND finished_at < ?",
+                Timestamp.valueOf(from), Timestamp.valueOf(to));
+        jdbcTemplate.update(
+                "DELETE FROM matches WHERE finished_at >= ? AND finished_at < ?",
+                Timestamp.valueOf(from), Timestamp.valueOf(to));
+        return deleted;
+    }
+}
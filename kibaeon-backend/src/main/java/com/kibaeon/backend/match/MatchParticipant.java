@@ -0,0 +1,46 @@
+package com.kibaeon.backend.match;
+
+import com.kibaeon.backend.user.User;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 한 판에 참가한 플레이어 한 명의 기록
+// "내 최근 N판"은 (user_id, match_id) 인덱스를 match_id 역순으로 읽는 키셋 페이지 조회
+// finished_at은 정리 작업에서 matches를 조인하지 않고 범위로 지우기 위해 같이 저장
+@Entity
+@Table(name = "match_participants", indexes = {
+        @Index(name = "idx_match_participants_user_match", columnList = "user_id, match_id"),
+        @Index(name = "idx_match_participants_finished_at", columnList = "finished_at")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_match_participants_match_user", columnNames = {"match_id", "user_id"})
+})
+@Getter
+@NoArgsConstructor
+public class MatchParticipant {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "match_id")
+    private Match match;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    @Column(nullable = false)
+    private Integer placement;   // 등수 (rank는 MySQL 예약어)
+    @Column(nullable = false)
+    private Integer wpm;
+    @Column(nullable = false)
+    private Double accuracy;
+    @Column(nullable = false)
+    private Boolean finished;
+
+    @Column(name = "finished_at", nullable = false)
+    private LocalDateTime finishedAt;
+}
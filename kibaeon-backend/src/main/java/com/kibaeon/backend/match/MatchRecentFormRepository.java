@@ -0,0 +1,85 @@
+package com.kibaeon.backend.match;
+
+import com.kibaeon.backend.game.GameFinishedEvent;
+import com.kibaeon.backend.game.dto.GameResult;
+import com.kibaeon.backend.match.dto.RecentForm;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 유저별 최근 몇 판 (등수:WPM), 프로필에서 DB 조회 없이 최근 흐름을 보여주기 위한 짧은 리스트
+//   match:recent:{userId}  LIST  최신순 "placement:wpm", RECENT_SIZE개까지만 유지
+@Repository
+@RequiredArgsConstructor
+public class MatchRecentFormRepository {
+    private static final String RECENT_KEY_PREFIX = "match:recent:";
+    private static final int RECENT_SIZE = 10;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    // 여러 판의 결과를 파이프라인 한 번으로 추가
+    public void pushAll(List<GameFinishedEvent> games) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+                for (GameFinishedEvent game : games) {
+                    for (GameResult result : game.results()) {
+                        String key = RECENT_KEY_PREFIX + result.userId();
+                        operations.opsForList().leftPush(key, result.rank() + ":" + result.wpm());
+                        operations.opsForList().trim(key, 0, RECENT_SIZE - 1);
+                    }
+                }
+                return null;
+            }
+        });
+    }
+
+    public RecentForm find(long userId) {
+        return findAll(List.of(userId)).getOrDefault(userId, RecentForm.EMPTY);
+    }
+
+    @SuppressWarnings("unchecked")
+    public Map<Long, RecentForm> findAll(List<Long> userIds) {
+        List<Object> lists = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public Object execute(RedisOperations operations) {
+                for (Long userId : userIds) {
+                    operations.opsForList().range(RECENT_KEY_PREFIX + userId, 0, -1);
+                }
+                return null;
+            }
+        });
+
+        Map<Long, RecentForm> forms = new HashMap<>();
+        for (int i = 0; i < userIds.size(); i++) {
+            forms.put(userIds.get(i), toRecentForm((List<Object>) lists.get(i)));
+        }
+        return forms;
+    }
+
+    private RecentForm toRecentForm(List<Object> entries) {
+        if (entries == null || entries.isEmpty()) {
+            return RecentForm.EMPTY;
+        }
+
+        List<Integer> placements = new ArrayList<>(entries.size());
+        List<Integer> wpms = new ArrayList<>(entries.size());
+        long wpmSum = 0;
+        for (Object entry : entries) {
+            String[] parts = ((String) entry).split(":");
+            placements.add(Integer.parseInt(parts[0]));
+            int wpm = Integer.parseInt(parts[1]);
+            wpms.add(wpm);
+            wpmSum += wpm;
+        }
+        return new RecentForm(placements, wpms, (double) wpmSum / entries.size());
+    }
+}
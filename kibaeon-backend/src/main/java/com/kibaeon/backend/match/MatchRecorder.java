@@ -0,0 +1,124 @@
+package com.kibaeon.backend.match;
+
+import com.kibaeon.backend.game.GameFinishedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 끝난 레이스를 모아두었다가 batch INSERT로 저장
+// 이벤트를 받는 쪽(레이스 틱 스레드)은 큐에 넣기만 하고, 저장은 스케줄러 스레드가 함
+// DB 저장과 최근 기록(Redis) 추가는 따로 다시 시도 (Redis만 실패했을 때 DB에 또 넣지 않도록)
+@Component
+@RequiredArgsConstructor
+public class MatchRecorder {
+    private final MatchJdbcRepository matchRepository;
+    private final MatchRecentFormRepository recentFormRepository;
+
+    @Value("${match.flush.batch-size:200}")
+    private int batchSize;
+
+    private final ConcurrentLinkedQueue<GameFinishedEvent> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    // DB에는 저장됐지만 최근 기록 추가에 실패한 판 (flush 스레드만 접근)
+    private final List<GameFinishedEvent> pendingPush = new ArrayList<>();
+    // JDBC/Redis 쓰기 중에 잡는 락이라 synchronized 대신 사용 (가상 스레드 고정 방지)
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    @EventListener
+    public void onGameFinished(GameFinishedEvent event) {
+        queue.add(event);
+        queued.incrementAndGet();
+    }
+
+    @Scheduled(fixedDelayString = "${match.flush.interval-ms:1000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            if (!pendingPush.isEmpty() && !push(new ArrayList<>(pendingPush))) {
+                return;
+            }
+            pendingPush.clear();
+
+            while (queued.get() > 0) {
+                List<GameFinishedEvent> games = new ArrayList<>(Math.min(queued.get(), batchSize));
+                GameFinishedEvent game;
+                while (games.size() < batchSize && (game = queue.poll()) != null) {
+                    games.add(game);
+                }
+                queued.addAndGet(-games.size());
+                if (games.isEmpty()) {
+                    return;
+                }
+
+                try {
+                    matchRepository.insertAll(games);
+                } catch (DataIntegrityViolationException e) {
+                    // 외래 키 위반 등 다시 해도 안 되는 판이 섞임, 한 판씩 저장하고 그 판만 버림
+                    games = insertOneByOne(games);
+                    if (games == null) {
+                        return;
+                    }
+                } catch (Exception e) {
+                    // 실패한 판은 다음 주기에 다시 시도 (이미 들어간 판은 match_key로 걸러짐)
+                    requeue(games);
+                    return;
+                }
+                if (!push(games)) {
+                    pendingPush.addAll(games);
+                    return;
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 저장된 판 반환, 일시적인 오류가 나면 남은 판을 다시 큐에 넣고 null
+    private List<GameFinishedEvent> insertOneByOne(List<GameFinishedEvent> games) {
+        List<GameFinishedEvent> saved = new ArrayList<>(games.size());
+        for (int i = 0; i < games.size(); i++) {
+            GameFinishedEvent game = games.get(i);
+            try {
+                matchRepository.insertAll(List.of(game));
+                saved.add(game);
+            } catch (DataIntegrityViolationException e) {
+                // 이 판만 버림
+            } catch (Exception e) {
+                requeue(games.subList(i, games.size()));
+                pendingPush.addAll(saved);
+                return null;
+            }
+        }
+        return saved;
+    }
+
+    private void requeue(List<GameFinishedEvent> games) {
+        queue.addAll(games);
+        queued.addAndGet(games.size());
+    }
+
+    private boolean push(List<GameFinishedEvent> games) {
+        try {
+            recentFormRepository.pushAll(games);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    // 종료 시 남은 기록 저장
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,51 @@
+package com.kibaeon.backend.match;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 보관 기간이 지난 경기 기록을 유저별 하루 통계로 합치고 원본을 지움 (테이블이 끝없이 커지지 않게)
+// 하루치씩 한 트랜잭션으로 처리해서 락을 오래 잡지 않음
+// 서버 여러 대가 같은 시각에 돌아도 락(match:rollup:lock)을 잡은 한 대만 정리함
+@Component
+@RequiredArgsConstructor
+public class MatchRollupJob {
+    private final MatchJdbcRepository matchRepository;
+    private final MatchRollupLockRepository lockRepository;
+
+    @Value("${match.retention-days:90}")
+    private int retentionDays;
+
+    // 정리 락 만료 시간 (서버가 중간에 죽어도 다음 날에는 다시 돌도록)
+    @Value("${match.rollup-lock-ms:3600000}")
+    private long lockMillis;
+
+    // 기본: 매일 새벽 4시
+    // 다른 서버가 정리 중이면 건너뛰고 -1 반환
+    @Scheduled(cron = "${match.rollup-cron:0 0 4 * * *}")
+    public int rollup() {
+        String token = UUID.randomUUID().toString();
+        if (!lockRepository.tryLock(token, lockMillis)) {
+            return -1;
+        }
+        try {
+            LocalDateTime cutoff = LocalDate.now().minusDays(retentionDays).atStartOfDay();
+
+            int compacted = 0;
+            LocalDate day;
+            while ((day = matchRepository.findOldestDayBefore(cutoff)) != null) {
+                LocalDateTime from = day.atStartOfDay();
+                LocalDateTime to = from.plusDays(1);
+                compacted += matchRepository.rollup(day, from, to.isAfter(cutoff) ? cutoff : to);
+            }
+            return compacted;
+        } finally {
+            lockRepository.unlock(token);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.kibaeon.backend.match;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+
+// 경기 기록 정리 락 (서버 여러 대 중 한 대만 정리하도록)
+//   match:rollup:lock  STRING  정리 중인 서버의 토큰 (만료 시간 있음)
+@Repository
+@RequiredArgsConstructor
+public class MatchRollupLockRepository {
+    private static final String LOCK_KEY = "match:rollup:lock";
+    private static final RedisScript<Long> UNLOCK_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/match/unlock-rollup.lua"), Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public boolean tryLock(String token, long ttlMillis) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                .setIfAbsent(LOCK_KEY, token, Duration.ofMillis(ttlMillis)));
+    }
+
+    public void unlock(String token) {
+        redisTemplate.execute(UNLOCK_SCRIPT, List.of(LOCK_KEY), token);
+    }
+}
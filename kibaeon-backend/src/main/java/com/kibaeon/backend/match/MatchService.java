@@ -0,0 +1,39 @@
+package com.kibaeon.backend.match;
+
+import com.kibaeon.backend.match.dto.MatchHistoryItem;
+import com.kibaeon.backend.match.dto.MatchHistoryPageResponse;
+import com.kibaeon.backend.match.dto.RecentForm;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class MatchService {
+    private final MatchJdbcRepository matchRepository;
+    private final MatchRecentFormRepository recentFormRepository;
+    private static final int MAX_PAGE_SIZE = 50;
+
+    // 내 기록 (최신순), 다음 페이지는 응답의 nextCursor를 cursor로 넘김
+    public MatchHistoryPageResponse getHistory(long userId, Long cursor, int size) {
+        try {
+            int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+            List<MatchHistoryItem> matches = matchRepository.findHistory(userId, cursor, pageSize);
+
+            Long nextCursor = matches.size() == pageSize ? matches.get(matches.size() - 1).matchId() : null;
+            return new MatchHistoryPageResponse(matches, nextCursor);
+        } catch (Exception e) {
+            throw new RuntimeException("경기 기록 조회에 실패했어요. :" + e.getMessage(), e);
+        }
+    }
+
+    public RecentForm getRecentForm(long userId) {
+        return recentFormRepository.find(userId);
+    }
+
+    public Map<Long, RecentForm> getRecentForms(List<Long> userIds) {
+        return recentFormRepository.findAll(userIds);
+    }
+}
@@ -0,0 +1,39 @@
+package com.kibaeon.backend.match;
+
+import com.kibaeon.backend.user.User;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 보관 기간이 지난 기록을 유저별 하루 단위로 합친 통계 (MatchRollupJob이 채움)
+@Entity
+@Table(name = "user_daily_stats", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_daily_stats_user_day", columnNames = {"user_id", "day"})
+})
+@Getter
+@NoArgsConstructor
+public class UserDailyStats {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    @Column(nullable = false)
+    private LocalDate day;
+
+    @Column(nullable = false)
+    private Integer games;
+    @Column(nullable = false)
+    private Integer wins;
+    @Column(nullable = false)
+    private Long wpmSum;
+    @Column(nullable = false)
+    private Integer maxWpm;
+    @Column(nullable = false)
+    private Double accuracySum;
+}
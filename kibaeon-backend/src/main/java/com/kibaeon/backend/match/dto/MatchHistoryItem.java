@@ -0,0 +1,17 @@
+package com.kibaeon.backend.match.dto;
+
+import java.time.LocalDateTime;
+
+// 내 기록 한 판
+public record MatchHistoryItem(
+        Long matchId,
+        String roomId,
+        Long sentenceId,
+        int playerCount,
+        int placement,
+        int wpm,
+        double accuracy,
+        boolean finished,
+        LocalDateTime finishedAt
+) {
+}
@@ -0,0 +1,15 @@
+package com.kibaeon.backend.match.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchHistoryPageResponse {
+    private List<MatchHistoryItem> matches;
+    private Long nextCursor;  // 다음 페이지 요청 시 넘길 커서 (마지막으로 받은 matchId), 마지막 페이지면 null
+}
@@ -0,0 +1,12 @@
+package com.kibaeon.backend.match.dto;
+
+import java.util.List;
+
+// 최근 몇 판의 흐름 (최신순)
+public record RecentForm(
+        List<Integer> placements,
+        List<Integer> wpms,
+        double averageWpm
+) {
+    public static final RecentForm EMPTY = new RecentForm(List.of(), List.of(), 0.0);
+}
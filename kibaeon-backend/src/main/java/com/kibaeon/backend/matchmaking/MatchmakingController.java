@@ -0,0 +1,28 @@
+package com.kibaeon.backend.matchmaking;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+// 빠른 대전 (매칭 결과는 WebSocket /user/queue/matchmaking 으로 받음)
+@RestController
+@RequestMapping("/api/matchmaking")
+@RequiredArgsConstructor
+public class MatchmakingController {
+    private final MatchmakingService matchmakingService;
+
+    // 대기열 입장
+    @PostMapping
+    public ResponseEntity<Void> enqueue(Authentication authentication) {
+        matchmakingService.enqueue(authentication.getName());
+
+        return ResponseEntity.accepted().build();
+    }
+
+    // 대기 취소
+    @DeleteMapping
+    public ResponseEntity<Boolean> cancel(Authentication authentication) {
+        return ResponseEntity.ok(matchmakingService.cancel(authentication.getName()));
+    }
+}
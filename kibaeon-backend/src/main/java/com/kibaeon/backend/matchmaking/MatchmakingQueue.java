@@ -0,0 +1,224 @@
+package com.kibaeon.backend.matchmaking;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 실력(평균 WPM) 구간별 빠른 대전 대기열
+// 구간마다 따로 큐를 두고, 티켓 상태를 CAS로 바꿔서 잡기 때문에 전체 락이 없음
+// (입장/취소는 매칭 중에도 바로 처리되고, 여러 스레드가 동시에 poll 해도 같은 티켓을 두 번 잡지 않음)
+// 오래 기다릴수록 양옆 구간으로 범위를 넓히고, maxWait가 지나면 minGroupSize명만 모여도 매칭
+public class MatchmakingQueue {
+    static final int WAITING = 0;
+    static final int CLAIMED = 1;
+    static final int MATCHED = 2;
+    static final int CANCELLED = 3;
+    // 매칭 중(CLAIMED)에 취소 요청, 매칭을 마무리하거나 풀 때 CANCELLED로 처리
+    static final int CANCEL_REQUESTED = 4;
+
+    private final int bucketWidth;
+    private final int groupSize;
+    private final int minGroupSize;
+    private final long widenEveryMillis;
+    private final int maxRadius;
+    private final long maxWaitMillis;
+
+    private final ConcurrentLinkedQueue<Ticket>[] buckets;
+    private final Map<String, Ticket> tickets = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public MatchmakingQueue(int maxWpm, int bucketWidth, int groupSize, int minGroupSize,
+                            long widenEveryMillis, int maxRadius, long maxWaitMillis) {
+        this.bucketWidth = bucketWidth;
+        this.groupSize = groupSize;
+        this.minGroupSize = minGroupSize;
+        this.widenEveryMillis = widenEveryMillis;
+        this.maxRadius = maxRadius;
+        this.maxWaitMillis = maxWaitMillis;
+        this.buckets = new ConcurrentLinkedQueue[maxWpm / bucketWidth + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new ConcurrentLinkedQueue<>();
+        }
+    }
+
+    // 대기열 입장 (이미 대기 중이면 false)
+    public boolean enqueue(String userId, double wpm, long now) {
+        Ticket ticket = new Ticket(userId, wpm, now);
+        if (tickets.putIfAbsent(userId, ticket) != null) {
+            return false;
+        }
+        buckets[bucketOf(wpm)].add(ticket);
+        return true;
+    }
+
+    // 매칭에서 빠진 사람을 원래 대기 시작 시각 그대로 다시 넣음 (기다린 시간과 넓힌 범위를 잃지 않도록)
+    public boolean requeue(Ticket ticket) {
+        Ticket again = new Ticket(ticket.userId, ticket.wpm, ticket.enqueuedAt);
+        if (tickets.putIfAbsent(ticket.userId, again) != null) {
+            return false;
+        }
+        buckets[bucketOf(ticket.wpm)].add(again);
+        return true;
+    }
+
+    // 대기 취소 (이미 매칭됐으면 false)
+    // 매칭 중이면 취소 요청만 남기고, 매칭을 마무리하거나 풀 때 그 티켓을 뺌
+    public boolean cancel(String userId) {
+        Ticket ticket = tickets.get(userId);
+        if (ticket == null) {
+            return false;
+        }
+        while (true) {
+            int state = ticket.state.get();
+            if (state == WAITING && ticket.state.compareAndSet(WAITING, CANCELLED)) {
+                tickets.remove(userId, ticket);
+                return true;
+            }
+            if (state == CLAIMED && ticket.state.compareAndSet(CLAIMED, CANCEL_REQUESTED)) {
+                return true;
+            }
+            if (state != WAITING && state != CLAIMED) {
+                return state == CANCEL_REQUESTED;
+            }
+        }
+    }
+
+    public boolean isWaiting(String userId) {
+        return tickets.containsKey(userId);
+    }
+
+    public int size() {
+        return tickets.size();
+    }
+
+    // 지금 만들 수 있는 매칭을 모두 만들어 반환
+    // 구간마다 가장 오래 기다린 티켓을 기준으로 주변 구간에서 남은 자리를 채움
+    public List<List<Ticket>> poll(long now) {
+        List<List<Ticket>> matches = new ArrayList<>();
+        for (int bucket = 0; bucket < buckets.length; bucket++) {
+            Ticket anchor;
+            while ((anchor = oldestWaiting(bucket)) != null) {
+                List<Ticket> group = tryMatch(anchor, bucket, now);
+                if (group == null) {
+                    // 가장 오래 기다린 티켓도 못 모았으면 같은 구간의 나머지도 못 모음
+                    break;
+                }
+                matches.add(group);
+            }
+        }
+        return matches;
+    }
+
+    private List<Ticket> tryMatch(Ticket anchor, int bucket, long now) {
+        if (!anchor.state.compareAndSet(WAITING, CLAIMED)) {
+            return null;
+        }
+
+        long waited = now - anchor.enqueuedAt;
+        int radius = (int) Math.min(maxRadius, waited / widenEveryMillis);
+        int required = waited >= maxWaitMillis ? minGroupSize : groupSize;
+
+        List<Ticket> group = new ArrayList<>(groupSize);
+        group.add(anchor);
+        // 가까운 구간부터: bucket, bucket-1, bucket+1, bucket-2, ...
+        for (int distance = 0; distance <= radius && group.size() < groupSize; distance++) {
+            claimFrom(bucket - distance, group);
+            if (distance > 0) {
+                claimFrom(bucket + distance, group);
+            }
+        }
+
+        // 모으는 동안 취소한 사람은 빼고 다시 확인
+        group.removeIf(ticket -> ticket.state.get() == CANCEL_REQUESTED && finishCancel(ticket));
+        if (group.size() < required) {
+            for (Ticket ticket : group) {
+                if (!ticket.state.compareAndSet(CLAIMED, WAITING)) {
+                    finishCancel(ticket);
+                }
+            }
+            return null;
+        }
+
+        // 마무리 직전에 취소한 사람도 빼고 매칭 (인원이 모자라면 받는 쪽이 방을 풀고 다시 대기열에 넣음)
+        group.removeIf(ticket -> !ticket.state.compareAndSet(CLAIMED, MATCHED) && finishCancel(ticket));
+        for (Ticket ticket : group) {
+            tickets.remove(ticket.userId, ticket);
+        }
+        return group;
+    }
+
+    // CANCEL_REQUESTED -> CANCELLED, 대기열에서 뺌
+    private boolean finishCancel(Ticket ticket) {
+        ticket.state.set(CANCELLED);
+        tickets.remove(ticket.userId, ticket);
+        return true;
+    }
+
+    private void claimFrom(int bucket, List<Ticket> group) {
+        if (bucket < 0 || bucket >= buckets.length) {
+            return;
+        }
+        Iterator<Ticket> iterator = buckets[bucket].iterator();
+        while (iterator.hasNext() && group.size() < groupSize) {
+            Ticket ticket = iterator.next();
+            int state = ticket.state.get();
+            if (state == MATCHED || state == CANCELLED) {
+                iterator.remove();
+            } else if (state == WAITING && ticket.state.compareAndSet(WAITING, CLAIMED)) {
+                group.add(ticket);
+            }
+        }
+    }
+
+    // 맨 앞의 끝난 티켓을 정리하면서 가장 오래 기다린 티켓 찾기
+    private Ticket oldestWaiting(int bucket) {
+        ConcurrentLinkedQueue<Ticket> queue = buckets[bucket];
+        Ticket head;
+        while ((head = queue.peek()) != null) {
+            int state = head.state.get();
+            if (state == WAITING) {
+                return head;
+            }
+            if (state == CLAIMED) {
+                // 다른 스레드가 매칭 중
+                return null;
+            }
+            queue.remove(head);
+        }
+        return null;
+    }
+
+    private int bucketOf(double wpm) {
+        int bucket = (int) (wpm / bucketWidth);
+        return Math.max(0, Math.min(bucket, buckets.length - 1));
+    }
+
+    public static final class Ticket {
+        private final String userId;
+        private final double wpm;
+        private final long enqueuedAt;
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+
+        Ticket(String userId, double wpm, long enqueuedAt) {
+            this.userId = userId;
+            this.wpm = wpm;
+            this.enqueuedAt = enqueuedAt;
+        }
+
+        public String getUserId() {
+            return userId;
+        }
+
+        public double getWpm() {
+            return wpm;
+        }
+
+        public long getEnqueuedAt() {
+            return enqueuedAt;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.kibaeon.backend.matchmaking;
+
+import com.kibaeon.backend.matchmaking.dto.MatchFailedMessage;
+import com.kibaeon.backend.matchmaking.dto.MatchFoundMessage;
+import com.kibaeon.backend.realtime.ClusterBroadcaster;
+import com.kibaeon.backend.room.Room;
+import com.kibaeon.backend.room.RoomService;
+import com.kibaeon.backend.user.UserService;
+import com.kibaeon.backend.user.UserSummary;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 빠른 대전
+// 대기열에서 비슷한 실력끼리 묶이면 방을 자동으로 만들고 모두 앉힌 뒤 각자에게 알림
+@Service
+@RequiredArgsConstructor
+public class MatchmakingService {
+    public static final String MATCHMAKING_DESTINATION = "/queue/matchmaking";
+    private static final String ROOM_NAME = "빠른 대전";
+
+    private final RoomService roomService;
+    private final UserService userService;
+    private final ClusterBroadcaster broadcaster;
+
+    @Value("${matchmaking.group-size:4}")
+    private int groupSize;
+    @Value("${matchmaking.min-group-size:2}")
+    private int minGroupSize;
+    @Value("${matchmaking.bucket-width:10}")
+    private int bucketWidth;
+    @Value("${matchmaking.widen-every-ms:2000}")
+    private long widenEveryMillis;
+    @Value("${matchmaking.max-radius:10}")
+    private int maxRadius;
+    @Value("${matchmaking.max-wait-ms:20000}")
+    private long maxWaitMillis;
+
+    private MatchmakingQueue queue;
+
+    @PostConstruct
+    void createQueue() {
+        queue = new MatchmakingQueue(300, bucketWidth, groupSize, minGroupSize, widenEveryMillis, maxRadius, maxWaitMillis);
+    }
+
+    // 대기열 입장
+    public void enqueue(String userId) {
+        try {
+            if (roomService.getCurrentRoomId(userId) != null) {
+                throw new IllegalStateException("이미 방에 들어가 있어요.");
+            }
+
+            UserSummary user = userService.getSummary(Long.parseLong(userId));
+            if (!queue.enqueue(userId, user.averageWpm(), System.currentTimeMillis())) {
+                throw new IllegalStateException("이미 대기 중이에요.");
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("빠른 대전 대기에 실패했어요. :" + e.getMessage(), e);
+        }
+    }
+
+    public boolean cancel(String userId) {
+        return queue.cancel(userId);
+    }
+
+    @Scheduled(fixedDelayString = "${matchmaking.poll-interval-ms:200}")
+    public void match() {
+        for (List<MatchmakingQueue.Ticket> group : queue.poll(System.currentTimeMillis())) {
+            try {
+                seat(group);
+            } catch (Exception e) {
+                // 한 그룹의 실패가 다른 그룹 매칭을 막지 않도록 알리고 다음 그룹으로 넘어감
+                MatchFailedMessage failure = new MatchFailedMessage("매칭을 완료하지 못했어요. 다시 시도해 주세요.");
+                for (MatchmakingQueue.Ticket ticket : group) {
+                    try {
+                        broadcaster.sendToUser(ticket.getUserId(), MATCHMAKING_DESTINATION, failure);
+                    } catch (Exception sendError) {
+                        // 알림 실패는 무시
+                    }
+                }
+            }
+        }
+    }
+
+    // 첫 번째로 방을 만들 수 있는 사람이 방장, 나머지는 입장
+    // 그 사이 다른 방에 들어간 사람은 빼고, 두 명도 안 모이면 방을 지우고 남은 사람을 다시 대기열에
+    // 매칭 완료 알림은 실제로 앉은 사람에게만, 앉지 못한 사람에게는 실패 알림
+    private void seat(List<MatchmakingQueue.Ticket> group) {
+        Room room = null;
+        MatchmakingQueue.Ticket hostTicket = null;
+        List<String> seated = new ArrayList<>();
+        List<String> failed = new ArrayList<>();
+        for (MatchmakingQueue.Ticket ticket : group) {
+            try {
+                if (room == null) {
+                    room = roomService.createRoom(ROOM_NAME, ticket.getUserId(), groupSize, false, null, 1, null);
+                    hostTicket = ticket;
+                } else {
+                    roomService.joinRoom(room.getRoomId(), ticket.getUserId(), null);
+                }
+                seated.add(ticket.getUserId());
+            } catch (Exception e) {
+                // 이미 다른 방에 있거나 탈퇴한 유저
+                failed.add(ticket.getUserId());
+            }
+        }
+
+        MatchFailedMessage failure = new MatchFailedMessage("매칭된 방에 들어가지 못했어요.");
+        for (String userId : failed) {
+            broadcaster.sendToUser(userId, MATCHMAKING_DESTINATION, failure);
+        }
+
+        if (room == null) {
+            return;
+        }
+        if (seated.size() < minGroupSize) {
+            roomService.leaveRoom(room.getRoomId(), room.getHostId());
+            // 처음 대기 시작 시각을 그대로 (다시 기다리는 동안에도 범위가 넓어진 상태 유지)
+            queue.requeue(hostTicket);
+            return;
+        }
+
+        MatchFoundMessage message = new MatchFoundMessage(room.getRoomId(), seated.size());
+        for (String userId : seated) {
+            broadcaster.sendToUser(userId, MATCHMAKING_DESTINATION, message);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.kibaeon.backend.matchmaking.dto;
+
+// 매칭된 방에 앉지 못했을 때 알림 (/user/queue/matchmaking), 대기열에서도 빠진 상태
+public record MatchFailedMessage(
+        String reason
+) {
+}
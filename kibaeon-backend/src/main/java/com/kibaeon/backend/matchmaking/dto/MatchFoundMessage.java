@@ -0,0 +1,8 @@
+package com.kibaeon.backend.matchmaking.dto;
+
+// 매칭 완료 알림 (/user/queue/matchmaking), 받은 클라이언트는 roomId 방 화면으로 이동
+public record MatchFoundMessage(
+        String roomId,
+        int players
+) {
+}
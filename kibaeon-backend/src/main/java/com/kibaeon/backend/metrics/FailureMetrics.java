@@ -0,0 +1,59 @@
+package com.kibaeon.backend.metrics;
+
+import com.kibaeon.backend.room.RoomException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.ModelAndView;
+
+// 실패한 요청을 원인별로 셈 (kibaeon.failures{cause, source, uri})
+// source: http(요청), shard(방 샤드 명령), timer(방 타이머), race(레이스 틱/라운드 마무리), 요청이 아니면 uri는 none
+// 서비스가 RuntimeException으로 한 번 감싸서 던지므로 cause 체인을 따라가서
+// RoomException이면 에러 코드, 아니면 가장 안쪽 예외 클래스 이름을 씀
+// 응답은 건드리지 않음 (null 반환, 다음 리졸버가 처리)
+@Component
+@RequiredArgsConstructor
+public class FailureMetrics implements HandlerExceptionResolver, Ordered {
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public ModelAndView resolveException(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        count(ex, "http", RoundTripMetricsFilter.uriOf(request));
+        return null;
+    }
+
+    // 요청 밖(샤드, 타이머 스레드)에서 삼킨 실패
+    public void record(String source, Throwable ex) {
+        count(ex, source, "none");
+    }
+
+    private void count(Throwable ex, String source, String uri) {
+        Counter.builder("kibaeon.failures")
+                .tags("cause", causeOf(ex), "source", source, "uri", uri)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    static String causeOf(Throwable ex) {
+        Throwable current = ex;
+        Throwable root = ex;
+        while (current != null) {
+            if (current instanceof RoomException roomException) {
+                return roomException.getErrorCode().name();
+            }
+            root = current;
+            current = current.getCause() == current ? null : current.getCause();
+        }
+        return root.getClass().getSimpleName();
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,86 @@
+package com.kibaeon.backend.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+// SQL 실행 횟수와 시간을 재는 DataSource
+// JPA와 JdbcTemplate 모두 여기서 커넥션을 받으므로 Statement의 execute* 호출을 셈 (batch 실행은 1회)
+public class MeteredDataSource extends DelegatingDataSource {
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private volatile Timer statements;
+
+    public MeteredDataSource(DataSource target, ObjectProvider<MeterRegistry> meterRegistry) {
+        super(target);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if (result instanceof Statement statement && method.getReturnType().isInterface()) {
+                        return wrap(statement, method.getReturnType());
+                    }
+                    return result;
+                });
+    }
+
+    // Statement, PreparedStatement, CallableStatement 중 만든 메서드의 반환 타입 그대로 감쌈
+    private Object wrap(Statement statement, Class<?> type) {
+        return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    if (!method.getName().startsWith("execute")) {
+                        return invoke(statement, method, args);
+                    }
+                    long start = System.nanoTime();
+                    try {
+                        return invoke(statement, method, args);
+                    } finally {
+                        long elapsed = System.nanoTime() - start;
+                        timer().record(elapsed, TimeUnit.NANOSECONDS);
+                        RoundTrips.sql(elapsed);
+                    }
+                });
+    }
+
+    // DataSource는 MeterRegistry보다 먼저 만들어질 수 있어서 처음 쓸 때 등록
+    private Timer timer() {
+        Timer timer = statements;
+        if (timer == null) {
+            timer = Timer.builder("kibaeon.db.statements")
+                    .description("SQL 실행 (batch는 1회)")
+                    .register(meterRegistry.getObject());
+            statements = timer;
+        }
+        return timer;
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.kibaeon.backend.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+// Redis 왕복 횟수와 시간을 재는 RedisTemplate
+// 모든 명령, 스크립트, 파이프라인이 execute(RedisCallback, ...) 한 곳을 지나가므로 여기서 한 번씩 셈
+// 파이프라인/세션 안에서 다시 들어오는 호출은 바깥 호출에 포함 (파이프라인 하나 = 왕복 1회)
+public class MeteredRedisTemplate extends RedisTemplate<String, Object> {
+    private final Timer roundTrips;
+    private final ThreadLocal<int[]> depth = ThreadLocal.withInitial(() -> new int[1]);
+
+    public MeteredRedisTemplate(MeterRegistry meterRegistry) {
+        this.roundTrips = Timer.builder("kibaeon.redis.round.trips")
+                .description("Redis 왕복 (파이프라인, 스크립트는 1회)")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public <T> T execute(RedisCallback<T> action, boolean exposeConnection, boolean pipeline) {
+        int[] nested = depth.get();
+        if (nested[0]++ > 0) {
+            try {
+                return super.execute(action, exposeConnection, pipeline);
+            } finally {
+                nested[0]--;
+            }
+        }
+
+        long start = System.nanoTime();
+        try {
+            return super.execute(action, exposeConnection, pipeline);
+        } finally {
+            nested[0]--;
+            long elapsed = System.nanoTime() - start;
+            roundTrips.record(elapsed, TimeUnit.NANOSECONDS);
+            RoundTrips.redis(elapsed);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.kibaeon.backend.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class MetricsConfig {
+
+    // 스프링이 만든 DataSource(Hikari)를 SQL 실행을 세는 DataSource로 감쌈
+    @Bean
+    public static BeanPostProcessor meteredDataSourcePostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof MeteredDataSource)) {
+                    return new MeteredDataSource(dataSource, meterRegistry);
+                }
+                return bean;
+            }
+        };
+    }
+}
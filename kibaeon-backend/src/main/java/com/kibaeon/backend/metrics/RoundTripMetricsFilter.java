@@ -0,0 +1,68 @@
+package com.kibaeon.backend.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+// 요청(엔드포인트)별 Redis 왕복 수, SQL 실행 수와 그 시간
+//   kibaeon.request.redis.calls / kibaeon.request.db.statements {method, uri} : 요청 하나당 횟수 분포
+//   kibaeon.request.redis.time / kibaeon.request.db.time {method, uri}       : 요청 하나당 누적 시간
+// 인증 필터(presence 갱신)까지 포함하도록 Spring Security보다 바깥에서 돎
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class RoundTripMetricsFilter extends OncePerRequestFilter {
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        RoundTrips.Counts counts = RoundTrips.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RoundTrips.end();
+            record(request, counts);
+        }
+    }
+
+    private void record(HttpServletRequest request, RoundTrips.Counts counts) {
+        String method = request.getMethod();
+        String uri = uriOf(request);
+
+        DistributionSummary.builder("kibaeon.request.redis.calls")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(counts.redisCalls);
+        DistributionSummary.builder("kibaeon.request.db.statements")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(counts.sqlStatements);
+        Timer.builder("kibaeon.request.redis.time")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(counts.redisNanos, TimeUnit.NANOSECONDS);
+        Timer.builder("kibaeon.request.db.time")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(counts.sqlNanos, TimeUnit.NANOSECONDS);
+    }
+
+    // 경로 변수는 템플릿 그대로 ({roomId}), 핸들러를 못 찾은 요청은 하나로 묶음
+    static String uriOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNMATCHED";
+    }
+}
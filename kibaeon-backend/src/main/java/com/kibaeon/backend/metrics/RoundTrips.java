@@ -0,0 +1,43 @@
+package com.kibaeon.backend.metrics;
+
+// 요청 하나 동안의 Redis 왕복, SQL 실행 횟수와 시간 (요청 스레드 기준)
+// RoundTripMetricsFilter가 요청 시작/끝에 열고 닫음, 요청 밖(스케줄러, @Async)에서는 기록하지 않음
+public final class RoundTrips {
+    private static final ThreadLocal<Counts> CURRENT = new ThreadLocal<>();
+
+    private RoundTrips() {
+    }
+
+    static Counts begin() {
+        Counts counts = new Counts();
+        CURRENT.set(counts);
+        return counts;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    static void redis(long nanos) {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.redisCalls++;
+            counts.redisNanos += nanos;
+        }
+    }
+
+    static void sql(long nanos) {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.sqlStatements++;
+            counts.sqlNanos += nanos;
+        }
+    }
+
+    static final class Counts {
+        int redisCalls;
+        long redisNanos;
+        int sqlStatements;
+        long sqlNanos;
+    }
+}
@@ -0,0 +1,78 @@
+package com.kibaeon.backend.presence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 접속 상태
+//   presence:{userId}  STRING  요청/메시지가 오거나 WebSocket 세션이 열려 있는 동안 TTL 연장, 만료되면 접속 끊긴 것으로 봄
+@Repository
+@RequiredArgsConstructor
+public class PresenceRepository {
+    private static final String PRESENCE_KEY_PREFIX = "presence:";
+    private static final String USER_ROOM_KEY_PREFIX = "user:room:";
+    private static final String ROOM_KEY_PREFIX = "room:";
+
+    private static final RedisScript<Long> TOUCH_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/presence/touch.lua"), Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public void touch(String userId, long presenceTtlSeconds, long roomTtlSeconds) {
+        touchAll(List.of(userId), presenceTtlSeconds, roomTtlSeconds);
+    }
+
+    // 여러 명 한 번에 (매핑 MGET 한 번 + 스크립트 파이프라인 한 번)
+    // 방 키를 KEYS로 넘기려고 매핑을 먼저 읽음 (그 사이 바뀌면 스크립트가 접속 표시만 갱신)
+    public void touchAll(List<String> userIds, long presenceTtlSeconds, long roomTtlSeconds) {
+        List<String> userRoomKeys = new ArrayList<>(userIds.size());
+        for (String userId : userIds) {
+            userRoomKeys.add(USER_ROOM_KEY_PREFIX + userId);
+        }
+        List<Object> roomIds = redisTemplate.opsForValue().multiGet(userRoomKeys);
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+                for (int i = 0; i < userIds.size(); i++) {
+                    String roomId = roomIds != null ? (String) roomIds.get(i) : null;
+
+                    List<String> keys = new ArrayList<>();
+                    keys.add(PRESENCE_KEY_PREFIX + userIds.get(i));
+                    keys.add(userRoomKeys.get(i));
+                    if (roomId != null) {
+                        String roomKey = ROOM_KEY_PREFIX + roomId;
+                        keys.addAll(List.of(roomKey, roomKey + ":players", roomKey + ":nicknames", roomKey + ":ready", roomKey + ":characters"));
+                    }
+
+                    operations.execute(TOUCH_SCRIPT, keys,
+                            String.valueOf(presenceTtlSeconds), String.valueOf(roomTtlSeconds), roomId != null ? roomId : "");
+                }
+                return null;
+            }
+        });
+    }
+
+    // 유저별 접속 여부 (파이프라인 한 번, userIds 순서)
+    public List<Boolean> areOnline(List<String> userIds) {
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public Object execute(RedisOperations operations) {
+                for (String userId : userIds) {
+                    operations.hasKey(PRESENCE_KEY_PREFIX + userId);
+                }
+                return null;
+            }
+        });
+
+        return results.stream().map(Boolean.TRUE::equals).toList();
+    }
+}
@@ -0,0 +1,97 @@
+package com.kibaeon.backend.presence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 접속 하트비트
+// HTTP 요청과 STOMP 메시지마다 호출되지만, 같은 유저는 touch-interval-ms에 한 번만 Redis에 씀
+// 이 서버에 STOMP 세션이 열려 있는 유저는 아무것도 보내지 않아도 주기적으로 갱신
+// (죽은 연결은 STOMP 하트비트가 끊어서 세션 종료 이벤트가 옴, 조용히 방에 있는 플레이어가 정리되지 않도록)
+@Service
+@RequiredArgsConstructor
+public class PresenceService {
+    private final PresenceRepository presenceRepository;
+
+    @Value("${presence.ttl-seconds:90}")
+    private long presenceTtlSeconds;
+    @Value("${presence.room-ttl-seconds:3600}")
+    private long roomTtlSeconds;
+    @Value("${presence.touch-interval-ms:15000}")
+    private long touchIntervalMillis;
+
+    // userId -> 마지막으로 Redis에 쓴 시각
+    private final Map<String, Long> lastTouched = new ConcurrentHashMap<>();
+    // 이 서버에 열린 STOMP 세션 id -> userId (종료 이벤트가 두 번 와도 되도록 세션 단위로 기록)
+    private final Map<String, String> sessions = new ConcurrentHashMap<>();
+
+    public void touch(String userId) {
+        long now = System.currentTimeMillis();
+        Long last = lastTouched.get(userId);
+        if (last != null && now - last < touchIntervalMillis) {
+            return;
+        }
+        lastTouched.put(userId, now);
+
+        try {
+            presenceRepository.touch(userId, presenceTtlSeconds, roomTtlSeconds);
+        } catch (Exception e) {
+            // 하트비트 실패가 요청 자체를 막지 않도록 무시 (다음 요청에서 다시 시도)
+            lastTouched.remove(userId);
+        }
+
+        // 오래 안 온 유저 정리 (맵이 끝없이 커지지 않게)
+        if (lastTouched.size() > 100_000) {
+            lastTouched.values().removeIf(time -> now - time > touchIntervalMillis);
+        }
+    }
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        Principal user = event.getUser();
+        String sessionId = StompHeaderAccessor.wrap(event.getMessage()).getSessionId();
+        if (user != null && sessionId != null) {
+            sessions.put(sessionId, user.getName());
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        sessions.remove(event.getSessionId());
+    }
+
+    // 세션이 열려 있는 유저 전원의 접속 표시 갱신 (TTL보다 충분히 짧은 주기)
+    @Scheduled(fixedDelayString = "${presence.touch-interval-ms:15000}")
+    public void touchConnected() {
+        Set<String> userIds = new HashSet<>(sessions.values());
+        if (userIds.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        try {
+            presenceRepository.touchAll(new ArrayList<>(userIds), presenceTtlSeconds, roomTtlSeconds);
+            for (String userId : userIds) {
+                lastTouched.put(userId, now);
+            }
+        } catch (Exception e) {
+            // 다음 주기에 다시 시도
+        }
+    }
+
+    public List<Boolean> areOnline(List<String> userIds) {
+        return presenceRepository.areOnline(userIds);
+    }
+}
@@ -0,0 +1,255 @@
+package com.kibaeon.backend.realtime;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+import tools.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+// 여러 서버 사이 STOMP 메시지 전달 (Redis pub/sub)
+// 토픽 하나 = Redis 채널 하나 (ws:/topic/rooms/{roomId}, ws:/topic/lobby, ws:user:{userId} ...)
+// 서버는 자기에게 붙은 구독자가 있는 채널만 SUBSCRIBE 하므로, 방 이벤트는 그 방 구독자가 있는 서버에만 감
+// 보내는 쪽에서 JSON으로 한 번만 직렬화하고, 받는 서버는 그 바이트 그대로 구독자 전원에게 씀
+// 메시지 본문: "목적지\nJSON"
+// realtime.fanout=local 이면 Redis를 거치지 않고 이 서버 구독자에게만 보냄 (서버 한 대일 때)
+@Component
+public class ClusterBroadcaster implements MessageListener {
+    static final String CHANNEL_PREFIX = "ws:";
+    static final String USER_CHANNEL_PREFIX = "ws:user:";
+    // 구독 강제 해제 요청 (본문: "userId\n목적지\n목적지...", userId가 비어 있으면 모든 세션)
+    static final String UNSUBSCRIBE_CHANNEL = "ws:unsubscribe";
+    private static final String USER_SUBSCRIPTION = "@user";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final boolean redisFanout;
+
+    // 채널별 이 서버의 구독 수, 0 -> 1 에 SUBSCRIBE, 1 -> 0 에 UNSUBSCRIBE
+    private final Map<String, Integer> channelRefs = new ConcurrentHashMap<>();
+    // 세션별 구독 id -> 채널 (UNSUBSCRIBE, 연결 끊김 때 정리)
+    private final Map<String, Map<String, String>> sessions = new ConcurrentHashMap<>();
+    // 세션 id -> userId (구독 강제 해제 때 그 유저의 세션 찾기)
+    private final Map<String, String> sessionUsers = new ConcurrentHashMap<>();
+
+    public ClusterBroadcaster(SimpMessagingTemplate messagingTemplate,
+                              RedisTemplate<String, Object> redisTemplate,
+                              RedisMessageListenerContainer listenerContainer,
+                              ObjectMapper objectMapper,
+                              @Value("${realtime.fanout:redis}") String fanout) {
+        this.messagingTemplate = messagingTemplate;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.redisFanout = !"local".equals(fanout);
+    }
+
+    // 토픽 구독자 전원에게 (어느 서버에 붙어 있든)
+    public void send(String destination, Object payload) {
+        publish(CHANNEL_PREFIX + destination, destination, payload);
+    }
+
+    // 유저 한 명에게 (/user/queue/...)
+    public void sendToUser(String userId, String destination, Object payload) {
+        publish(USER_CHANNEL_PREFIX + userId, "/user/" + userId + destination, payload);
+    }
+
+    // 서버 사이 내부 메시지 (STOMP 구독자와 무관), 반환값을 닫으면 구독 해제
+    public AutoCloseable listen(String channel, Consumer<String> handler) {
+        MessageListener listener = (message, pattern) -> handler.accept(new String(message.getBody(), StandardCharsets.UTF_8));
+        ChannelTopic topic = new ChannelTopic(channel);
+        listenerContainer.addMessageListener(listener, topic);
+        return () -> listenerContainer.removeMessageListener(listener, topic);
+    }
+
+    public void publishRaw(String channel, String body) {
+        redisTemplate.convertAndSend(channel, body);
+    }
+
+    public boolean isRedisFanout() {
+        return redisFanout;
+    }
+
+    @PostConstruct
+    void listenUnsubscribe() {
+        if (redisFanout) {
+            listen(UNSUBSCRIBE_CHANNEL, this::dropSubscriptions);
+        }
+    }
+
+    // 유저(null이면 전원)의 destinations 구독을 모든 서버에서 끊음
+    // 구독 권한은 SUBSCRIBE 때만 확인하므로, 방을 나간 뒤에도 계속 받지 않도록 직접 끊어야 함
+    public void unsubscribe(String userId, List<String> destinations) {
+        String body = (userId != null ? userId : "") + '\n' + String.join("\n", destinations);
+        if (redisFanout) {
+            redisTemplate.convertAndSend(UNSUBSCRIBE_CHANNEL, body);
+        } else {
+            dropSubscriptions(body);
+        }
+    }
+
+    // 이 서버 세션 중 해당하는 구독을 브로커에서 지우고 채널 참조도 정리
+    private void dropSubscriptions(String body) {
+        String[] lines = body.split("\n");
+        String userId = lines[0].isEmpty() ? null : lines[0];
+        Set<String> channels = new HashSet<>();
+        for (int i = 1; i < lines.length; i++) {
+            channels.add(CHANNEL_PREFIX + lines[i]);
+        }
+
+        sessions.forEach((sessionId, subscriptions) -> {
+            if (userId != null && !userId.equals(sessionUsers.get(sessionId))) {
+                return;
+            }
+            subscriptions.forEach((subscriptionId, channel) -> {
+                if (channels.contains(channel) && subscriptions.remove(subscriptionId, channel)) {
+                    release(channel);
+                    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.UNSUBSCRIBE);
+                    accessor.setSessionId(sessionId);
+                    accessor.setSubscriptionId(subscriptionId);
+                    accessor.setLeaveMutable(true);
+                    messagingTemplate.getMessageChannel().send(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+                }
+            });
+        });
+    }
+
+    private void publish(String channel, String destination, Object payload) {
+        String json = objectMapper.writeValueAsString(payload);
+        if (redisFanout) {
+            redisTemplate.convertAndSend(channel, destination + '\n' + json);
+        } else {
+            deliver(destination, json.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    // 다른 서버(또는 자신)가 보낸 메시지를 이 서버 구독자에게 전달
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        byte[] body = message.getBody();
+        int newline = indexOf(body, (byte) '\n');
+        if (newline < 0) {
+            return;
+        }
+        String destination = new String(body, 0, newline, StandardCharsets.UTF_8);
+        byte[] json = new byte[body.length - newline - 1];
+        System.arraycopy(body, newline + 1, json, 0, json.length);
+        deliver(destination, json);
+    }
+
+    // 이미 직렬화된 JSON을 그대로 브로커에 넘김 (구독자마다 다시 변환하지 않음)
+    private void deliver(String destination, byte[] json) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        messagingTemplate.send(destination, MessageBuilder.createMessage(json, accessor.getMessageHeaders()));
+    }
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        Principal user = event.getUser();
+        String sessionId = StompHeaderAccessor.wrap(event.getMessage()).getSessionId();
+        if (user != null && sessionId != null) {
+            sessionUsers.put(sessionId, user.getName());
+            track(sessionId, USER_SUBSCRIPTION, USER_CHANNEL_PREFIX + user.getName());
+        }
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        // /user/... 구독은 연결 시 유저 채널로 이미 받고 있음
+        if (destination != null && destination.startsWith("/topic/")
+                && accessor.getSessionId() != null && accessor.getSubscriptionId() != null) {
+            track(accessor.getSessionId(), accessor.getSubscriptionId(), CHANNEL_PREFIX + destination);
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, String> subscriptions = accessor.getSessionId() == null ? null : sessions.get(accessor.getSessionId());
+        if (subscriptions != null && accessor.getSubscriptionId() != null) {
+            String channel = subscriptions.remove(accessor.getSubscriptionId());
+            if (channel != null) {
+                release(channel);
+            }
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        sessionUsers.remove(event.getSessionId());
+        Map<String, String> subscriptions = sessions.remove(event.getSessionId());
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::release);
+        }
+    }
+
+    private void track(String sessionId, String subscriptionId, String channel) {
+        String previous = sessions.computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>()).put(subscriptionId, channel);
+        if (previous != null) {
+            release(previous);
+        }
+        if (!redisFanout) {
+            return;
+        }
+        // 같은 채널의 구독/해제가 겹쳐도 SUBSCRIBE/UNSUBSCRIBE 순서가 꼬이지 않게 채널 단위로 직렬화
+        channelRefs.compute(channel, (key, count) -> {
+            if (count == null) {
+                listenerContainer.addMessageListener(this, new ChannelTopic(key));
+                return 1;
+            }
+            return count + 1;
+        });
+    }
+
+    private void release(String channel) {
+        if (!redisFanout) {
+            return;
+        }
+        channelRefs.computeIfPresent(channel, (key, count) -> {
+            if (count == 1) {
+                listenerContainer.removeMessageListener(this, new ChannelTopic(key));
+                return null;
+            }
+            return count - 1;
+        });
+    }
+
+    private static int indexOf(byte[] bytes, byte value) {
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
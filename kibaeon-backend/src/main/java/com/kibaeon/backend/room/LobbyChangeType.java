@@ -0,0 +1,7 @@
+package com.kibaeon.backend.room;
+
+public enum LobbyChangeType {
+    CREATED,   // 방 생성
+    UPDATED,   // 인원, 방장, 상태 등 목록에 보이는 값 변경
+    REMOVED    // 방 삭제
+}
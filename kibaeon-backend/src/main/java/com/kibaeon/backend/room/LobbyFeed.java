@@ -0,0 +1,126 @@
+package com.kibaeon.backend.room;
+
+import com.kibaeon.backend.realtime.ClusterBroadcaster;
+import com.kibaeon.backend.room.dto.LobbyChangesResponse;
+import com.kibaeon.backend.room.dto.LobbyDelta;
+import com.kibaeon.backend.room.dto.RoomListResponse;
+import com.kibaeon.backend.room.dto.RoomPageResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 로비 변경 피드
+// 방 목록 전체를 다시 받는 대신 바뀐 방 하나만 버전과 함께 /topic/lobby로 보냄
+//   lobby:version   STRING  마지막 변경 버전 (INCR)
+//   lobby:changes   ZSET    "버전|타입|roomId", score = 버전 (최근 MAX_CHANGES개만 보관)
+// 재연결한 클라이언트는 마지막 버전으로 놓친 변경분만 받고, 기록이 잘렸으면 첫 페이지 스냅샷을 받음
+@Component
+@RequiredArgsConstructor
+public class LobbyFeed {
+    public static final String LOBBY_TOPIC = "/topic/lobby";
+    private static final String VERSION_KEY = "lobby:version";
+    private static final String CHANGES_KEY = "lobby:changes";
+    private static final int MAX_CHANGES = 1_000;
+    private static final int SNAPSHOT_SIZE = 50;
+
+    private static final RedisScript<Long> APPEND_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/lobby/append.lua"), Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RoomRedisRepository roomRepository;
+    private final ClusterBroadcaster broadcaster;
+
+    public void created(String roomId) {
+        publish(LobbyChangeType.CREATED, roomId);
+    }
+
+    public void updated(String roomId) {
+        publish(LobbyChangeType.UPDATED, roomId);
+    }
+
+    public void removed(String roomId) {
+        publish(LobbyChangeType.REMOVED, roomId);
+    }
+
+    // 버전을 먼저 받고 방 상태는 그 뒤에 읽음
+    // 먼저 읽으면 느린 쪽이 낡은 상태에 더 큰 버전을 붙일 수 있음 (뒤에 읽으면 적어도 그 버전까지의 변경은 반영된 상태)
+    private void publish(LobbyChangeType type, String roomId) {
+        Long version = redisTemplate.execute(APPEND_SCRIPT, List.of(VERSION_KEY, CHANGES_KEY),
+                type.name(), roomId, String.valueOf(MAX_CHANGES));
+
+        RoomListResponse room = null;
+        if (type != LobbyChangeType.REMOVED) {
+            room = roomRepository.findLobbyEntries(List.of(roomId)).get(roomId);
+            if (room == null) {
+                // 그 사이 방이 사라진 경우 (기록은 changesSince에서 방이 없으면 REMOVED로 바꿔 보냄)
+                type = LobbyChangeType.REMOVED;
+            }
+        }
+        broadcaster.send(LOBBY_TOPIC, new LobbyDelta(version, type, roomId, room));
+    }
+
+    // since 이후 놓친 변경분
+    // 한 방이 여러 번 바뀌었으면 마지막 것 하나만, 방 내용은 지금 상태로 보냄
+    public LobbyChangesResponse changesSince(long since) {
+        long version = currentVersion();
+        if (since >= version) {
+            return new LobbyChangesResponse(version, List.of(), null);
+        }
+
+        Set<ZSetOperations.TypedTuple<Object>> oldest = redisTemplate.opsForZSet().rangeWithScores(CHANGES_KEY, 0, 0);
+        long oldestVersion = oldest == null || oldest.isEmpty() ? version + 1 : oldest.iterator().next().getScore().longValue();
+        if (since + 1 < oldestVersion) {
+            return snapshot(version);
+        }
+
+        Set<Object> entries = redisTemplate.opsForZSet().rangeByScore(CHANGES_KEY, since + 1, Double.MAX_VALUE);
+
+        // roomId -> 마지막 변경 (버전 순서 유지)
+        Map<String, String[]> latest = new LinkedHashMap<>();
+        long lastVersion = since;
+        for (Object entry : entries) {
+            String[] parts = ((String) entry).split("\\|", 3);
+            latest.remove(parts[2]);
+            latest.put(parts[2], parts);
+            lastVersion = Long.parseLong(parts[0]);
+        }
+
+        List<String> roomIds = new ArrayList<>();
+        latest.forEach((roomId, parts) -> {
+            if (!LobbyChangeType.REMOVED.name().equals(parts[1])) {
+                roomIds.add(roomId);
+            }
+        });
+        Map<String, RoomListResponse> rooms = roomIds.isEmpty() ? Map.of() : roomRepository.findLobbyEntries(roomIds);
+
+        List<LobbyDelta> changes = new ArrayList<>(latest.size());
+        latest.forEach((roomId, parts) -> {
+            long changeVersion = Long.parseLong(parts[0]);
+            RoomListResponse room = rooms.get(roomId);
+            LobbyChangeType type = room == null ? LobbyChangeType.REMOVED : LobbyChangeType.valueOf(parts[1]);
+            changes.add(new LobbyDelta(changeVersion, type, roomId, room));
+        });
+
+        return new LobbyChangesResponse(lastVersion, changes, null);
+    }
+
+    // 버전을 먼저 읽고 목록을 읽음 (그 사이 변경은 이후 델타로 다시 오고, 적용은 덮어쓰기라 중복돼도 됨)
+    private LobbyChangesResponse snapshot(long version) {
+        RoomPageResponse firstPage = roomRepository.findLobbyPage(null, SNAPSHOT_SIZE);
+        return new LobbyChangesResponse(version, null, firstPage);
+    }
+
+    private long currentVersion() {
+        Object version = redisTemplate.opsForValue().get(VERSION_KEY);
+        return version != null ? Long.parseLong((String) version) : 0;
+    }
+}
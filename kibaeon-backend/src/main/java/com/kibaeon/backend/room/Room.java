@@ -1,5 +1,6 @@
 package com.kibaeon.backend.room;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.kibaeon.backend.user.CharacterType;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -36,6 +37,15 @@ public class Room implements Serializable {
     private LocalDateTime createdAt;
     private LocalDateTime startedAt;
 
+    // 여러 라운드 게임
+    private String category;       // 문장 카테고리 (null이면 전체)
+    private int rounds;            // 총 라운드 수
+    private int currentRound;      // 진행 중인 라운드 (1부터, 대기 중이면 0)
+    @JsonIgnore
+    private long deckSeed;         // 덱 셔플 시드 (방마다 다름)
+    @JsonIgnore
+    private List<Long> deck;       // 게임 시작 시 섞어둔 라운드별 문장 id
+
     // 방 만들기 생성자
     public Room(String roomId, String roomName, String hostId, String hostNickname, int maxPlayers, boolean privateRoom, String password) {
         this.roomId = roomId;
@@ -56,6 +66,9 @@ public class Room implements Serializable {
         this.status = RoomStatus.WAITING;
         this.createdAt = LocalDateTime.now();
         this.startedAt = null;
+        this.rounds = 1;
+        this.currentRound = 0;
+        this.deck = new ArrayList<>();
     }
 
     // 방이 가득 찼는지 확인
@@ -76,6 +89,7 @@ public class Room implements Serializable {
             throw new IllegalArgumentException("방장은 강퇴할 수 없어요.");
         }
         playerIds.remove(playerId);
+        playerNicknames.remove(playerId);
         readyStatus.remove(playerId);
         playerCharacters.remove(playerId);
     }
@@ -2,20 +2,22 @@ package com.kibaeon.backend.room;
 
 import com.kibaeon.backend.room.dto.CreateRoomRequest;
 import com.kibaeon.backend.room.dto.JoinRoomRequest;
-import com.kibaeon.backend.room.dto.RoomListResponse;
+import com.kibaeon.backend.room.dto.LobbyChangesResponse;
+import com.kibaeon.backend.room.codec.RoomCodec;
+import com.kibaeon.backend.room.dto.RoomPageResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/rooms")
 @RequiredArgsConstructor
 public class RoomController {
     private final RoomService roomService;
+    private final RoomCodec roomCodec;
 
     // 방 생성
     @PostMapping
@@ -27,19 +29,30 @@ public class RoomController {
                 hostId,
                 request.getMaxPlayers(),
                 request.isPrivateRoom(),
-                request.getPassword()
+                request.getPassword(),
+                request.getRounds(),
+                request.getCategory()
         );
 
         return ResponseEntity.ok(room);
     }
 
     // 방 목록 조회 (비밀번호 제외)
+    // 최신순 페이지 조회, 다음 페이지는 응답의 nextCursor를 cursor로 넘김
     @GetMapping
-    public ResponseEntity<List<RoomListResponse>> getAllRooms() {
-        List<RoomListResponse> rooms = roomService.getAllRooms();
+    public ResponseEntity<RoomPageResponse> getRooms(@RequestParam(required = false) Long cursor,
+                                                     @RequestParam(defaultValue = "20") int size) {
+        RoomPageResponse rooms = roomService.getRooms(cursor, size);
         return ResponseEntity.ok(rooms);
     }
 
+    // 로비 변경분 (재연결 시 마지막으로 받은 version을 since로 넘김)
+    // 이후 변경분은 WebSocket /topic/lobby 로 받음
+    @GetMapping("/changes")
+    public ResponseEntity<LobbyChangesResponse> getLobbyChanges(@RequestParam(defaultValue = "0") long since) {
+        return ResponseEntity.ok(roomService.getLobbyChanges(since));
+    }
+
     // 방 삭제
     // 이 기능은 방장이 방 폭파를 위한 기능 프론트에 구현은 하지 않았지만 우선 남겨둠.
     @DeleteMapping("/{roomId}")
@@ -69,6 +82,33 @@ public class RoomController {
         return ResponseEntity.noContent().build();
     }
 
+    // 강퇴 (방장만 가능)
+    @PostMapping("/{roomId}/kick/{playerId}")
+    public ResponseEntity<Room> kickPlayer(@PathVariable String roomId, @PathVariable String playerId, Authentication authentication) {
+        String hostId = authentication.getName();
+        Room room = roomService.kickPlayer(roomId, hostId, playerId);
+
+        return ResponseEntity.ok(room);
+    }
+
+    // 준비 상태 토글, 바뀐 준비 상태 반환
+    @PostMapping("/{roomId}/ready")
+    public ResponseEntity<Boolean> toggleReady(@PathVariable String roomId, Authentication authentication) {
+        String userId = authentication.getName();
+        boolean ready = roomService.toggleReady(roomId, userId);
+
+        return ResponseEntity.ok(ready);
+    }
+
+    // 방장 위임 (방장만 가능)
+    @PostMapping("/{roomId}/host/{playerId}")
+    public ResponseEntity<Void> transferHost(@PathVariable String roomId, @PathVariable String playerId, Authentication authentication) {
+        String hostId = authentication.getName();
+        roomService.transferHost(roomId, hostId, playerId);
+
+        return ResponseEntity.noContent().build();
+    }
+
     // 현재 유저의 입장 방 조회
     @GetMapping("/my-room")
     public ResponseEntity<Room> getMyRoom(Authentication authentication) {
@@ -81,4 +121,15 @@ public class RoomController {
 
         return ResponseEntity.ok(room);
     }
+
+    // 방 전체 상태 (room.codec 설정에 따라 JSON 또는 바이너리)
+    // 재접속/새로고침 때 이벤트를 처음부터 다시 받는 대신 한 번에 받아감
+    @GetMapping("/{roomId}/snapshot")
+    public ResponseEntity<byte[]> getRoomSnapshot(@PathVariable String roomId, Authentication authentication) {
+        Room room = roomService.getRoomForMember(roomId, authentication.getName());
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(roomCodec.contentType()))
+                .body(roomCodec.encode(room));
+    }
 }
@@ -0,0 +1,23 @@
+package com.kibaeon.backend.room;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 방 관련 Redis 스크립트가 돌려주는 결과 코드
+@Getter
+@RequiredArgsConstructor
+public enum RoomErrorCode {
+    ALREADY_IN_ROOM("이미 다른 방에 입장해 있어요."),
+    ROOM_NOT_FOUND("존재하지 않는 방이에요."),
+    ROOM_FULL("방이 가득 찼어요."),
+    WRONG_PASSWORD("비밀번호가 틀렸어요."),
+    NOT_IN_ROOM("이 방에 입장해 있지 않아요."),
+    NOT_HOST("방장만 할 수 있어요."),
+    CANNOT_KICK_HOST("방장은 강퇴할 수 없어요."),
+    GAME_IN_PROGRESS("게임이 진행 중이에요."),
+    NOT_ENOUGH_PLAYERS("2명 이상 있어야 시작할 수 있어요."),
+    NOT_ALL_READY("모든 플레이어가 준비해야 시작할 수 있어요."),
+    ROOM_CHANGED("방 정보가 바뀌었어요. 다시 시도해 주세요.");
+
+    private final String message;
+}
@@ -0,0 +1,24 @@
+package com.kibaeon.backend.room;
+
+import com.kibaeon.backend.realtime.ClusterBroadcaster;
+import com.kibaeon.backend.room.dto.RoomEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+// 방이 바뀔 때마다 해당 방 구독자에게 변경분만 푸시 (클라이언트 폴링 대체)
+// 구독자가 다른 서버에 붙어 있어도 받도록 ClusterBroadcaster로 보냄
+// 같은 이벤트를 애플리케이션 이벤트로도 발행 (방 타이머가 준비/입장/퇴장에 반응)
+@Component
+@RequiredArgsConstructor
+public class RoomEventPublisher {
+    public static final String ROOM_TOPIC_PREFIX = "/topic/rooms/";
+
+    private final ClusterBroadcaster broadcaster;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public void publish(RoomEvent event) {
+        broadcaster.send(ROOM_TOPIC_PREFIX + event.roomId(), event);
+        eventPublisher.publishEvent(event);
+    }
+}
@@ -0,0 +1,12 @@
+package com.kibaeon.backend.room;
+
+public enum RoomEventType {
+    PLAYER_JOINED,   // 입장
+    PLAYER_LEFT,     // 퇴장 (방장이 나갔다면 새 방장 포함)
+    PLAYER_KICKED,   // 강퇴
+    READY_CHANGED,   // 준비 상태 변경
+    HOST_CHANGED,    // 방장 위임
+    COUNTDOWN_STARTED,   // 전원 준비, startsAt에 자동 시작
+    COUNTDOWN_CANCELLED, // 카운트다운 중 준비 해제/퇴장으로 취소
+    ROOM_DELETED     // 방 삭제
+}
@@ -0,0 +1,13 @@
+package com.kibaeon.backend.room;
+
+import lombok.Getter;
+
+@Getter
+public class RoomException extends RuntimeException {
+    private final RoomErrorCode errorCode;
+
+    public RoomException(RoomErrorCode errorCode) {
+        super(errorCode.getMessage());
+        this.errorCode = errorCode;
+    }
+}
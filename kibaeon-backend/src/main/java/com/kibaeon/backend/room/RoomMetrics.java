@@ -0,0 +1,71 @@
+package com.kibaeon.backend.room;
+
+import com.kibaeon.backend.room.dto.RoomListResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 로비 방 개수, 상태별 방 개수, 방에 있는 플레이어 수
+// 수집할 때마다 Redis를 읽지 않도록 주기적으로 로비 인덱스를 ZSCAN해서 집계해둔 값을 게이지로 노출
+@Component
+public class RoomMetrics {
+    private static final int BATCH_SIZE = 200;
+
+    private final RoomRedisRepository roomRepository;
+    private final AtomicLong lobbyRooms = new AtomicLong();
+    private final AtomicLong players = new AtomicLong();
+    private final Map<RoomStatus, AtomicLong> roomsByStatus = new EnumMap<>(RoomStatus.class);
+
+    public RoomMetrics(RoomRedisRepository roomRepository, MeterRegistry meterRegistry) {
+        this.roomRepository = roomRepository;
+
+        Gauge.builder("kibaeon.lobby.rooms", lobbyRooms, AtomicLong::get)
+                .description("로비 인덱스의 방 개수")
+                .register(meterRegistry);
+        Gauge.builder("kibaeon.rooms.players", players, AtomicLong::get)
+                .description("방에 들어가 있는 플레이어 수")
+                .register(meterRegistry);
+        for (RoomStatus status : RoomStatus.values()) {
+            AtomicLong count = new AtomicLong();
+            roomsByStatus.put(status, count);
+            Gauge.builder("kibaeon.rooms", count, AtomicLong::get)
+                    .tag("status", status.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${room.metrics.sample-interval-ms:15000}")
+    public void sample() {
+        long total = 0;
+        long playerCount = 0;
+        Map<RoomStatus, Long> counts = new EnumMap<>(RoomStatus.class);
+
+        try (Cursor<ZSetOperations.TypedTuple<Object>> cursor = roomRepository.scanLobby(BATCH_SIZE)) {
+            List<String> roomIds = new ArrayList<>(BATCH_SIZE);
+            while (cursor.hasNext()) {
+                roomIds.add((String) cursor.next().getValue());
+                if (roomIds.size() == BATCH_SIZE || !cursor.hasNext()) {
+                    for (RoomListResponse room : roomRepository.findLobbyEntries(roomIds).values()) {
+                        total++;
+                        playerCount += room.getPlayerIds().size();
+                        counts.merge(room.getStatus(), 1L, Long::sum);
+                    }
+                    roomIds.clear();
+                }
+            }
+        }
+
+        lobbyRooms.set(total);
+        players.set(playerCount);
+        roomsByStatus.forEach((status, count) -> count.set(counts.getOrDefault(status, 0L)));
+    }
+}
@@ -0,0 +1,126 @@
+package com.kibaeon.backend.room;
+
+import com.kibaeon.backend.presence.PresenceService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 버려진 방과 오래된 유저 -> 방 매핑 정리
+// 로비 인덱스는 ZSCAN, 매핑 키는 SCAN으로 BATCH_SIZE개씩 훑어서 Redis를 오래 막지 않음
+// presence는 요청/메시지뿐 아니라 열린 WebSocket 세션으로도 갱신되므로, 조용히 접속만 해 있는 플레이어는 만료되지 않음
+// 접속이 끊긴(presence 만료) 플레이어는 일반 나가기와 같은 경로로 내보내서 방장 위임, 빈 방 삭제, 이벤트 발행이 똑같이 일어남
+@Component
+@RequiredArgsConstructor
+public class RoomReaper {
+    private static final int BATCH_SIZE = 200;
+
+    private final RoomRedisRepository roomRepository;
+    private final RoomService roomService;
+    private final PresenceService presenceService;
+    private final LobbyFeed lobbyFeed;
+
+    @Scheduled(fixedDelayString = "${presence.reaper-interval-ms:30000}",
+            initialDelayString = "${presence.reaper-interval-ms:30000}")
+    public void reap() {
+        reapRooms();
+        reapMappings();
+    }
+
+    void reapRooms() {
+        try (Cursor<ZSetOperations.TypedTuple<Object>> cursor = roomRepository.scanLobby(BATCH_SIZE)) {
+            List<String> roomIds = new ArrayList<>(BATCH_SIZE);
+            while (cursor.hasNext()) {
+                roomIds.add((String) cursor.next().getValue());
+                if (roomIds.size() == BATCH_SIZE) {
+                    reapRooms(roomIds);
+                    roomIds.clear();
+                }
+            }
+            if (!roomIds.isEmpty()) {
+                reapRooms(roomIds);
+            }
+        }
+    }
+
+    private void reapRooms(List<String> roomIds) {
+        List<List<String>> players = roomRepository.findPlayers(roomIds);
+
+        List<String> allPlayers = new ArrayList<>();
+        players.forEach(allPlayers::addAll);
+        List<Boolean> online = allPlayers.isEmpty() ? List.of() : presenceService.areOnline(allPlayers);
+
+        int index = 0;
+        for (int i = 0; i < roomIds.size(); i++) {
+            String roomId = roomIds.get(i);
+            List<String> roomPlayers = players.get(i);
+
+            if (roomPlayers.isEmpty()) {
+                // 방 키가 만료됐는데 인덱스에만 남은 경우
+                roomRepository.removeFromLobby(roomId);
+                lobbyFeed.removed(roomId);
+                continue;
+            }
+
+            for (String playerId : roomPlayers) {
+                if (!online.get(index++)) {
+                    leaveQuietly(roomId, playerId);
+                }
+            }
+        }
+    }
+
+    void reapMappings() {
+        try (Cursor<String> cursor = roomRepository.scanUserRoomKeys(BATCH_SIZE)) {
+            List<String> userIds = new ArrayList<>(BATCH_SIZE);
+            while (cursor.hasNext()) {
+                userIds.add(roomRepository.userIdOf(cursor.next()));
+                if (userIds.size() == BATCH_SIZE) {
+                    reapMappings(userIds);
+                    userIds.clear();
+                }
+            }
+            if (!userIds.isEmpty()) {
+                reapMappings(userIds);
+            }
+        }
+    }
+
+    // 없는 방이나 자기가 들어있지 않은 방을 가리키는 매핑 삭제
+    private void reapMappings(List<String> userIds) {
+        List<String> roomIds = roomRepository.findCurrentRoomIds(userIds);
+
+        List<String> distinctRoomIds = new ArrayList<>();
+        for (String roomId : roomIds) {
+            if (roomId != null && !distinctRoomIds.contains(roomId)) {
+                distinctRoomIds.add(roomId);
+            }
+        }
+        Map<String, List<String>> playersByRoom = new HashMap<>();
+        List<List<String>> players = roomRepository.findPlayers(distinctRoomIds);
+        for (int i = 0; i < distinctRoomIds.size(); i++) {
+            playersByRoom.put(distinctRoomIds.get(i), players.get(i));
+        }
+
+        for (int i = 0; i < userIds.size(); i++) {
+            String roomId = roomIds.get(i);
+            if (roomId != null && !playersByRoom.get(roomId).contains(userIds.get(i))) {
+                roomRepository.deleteUserRoomIfPointsTo(userIds.get(i), roomId);
+            }
+        }
+    }
+
+    private void leaveQuietly(String roomId, String userId) {
+        try {
+            roomService.leaveRoom(roomId, userId);
+        } catch (Exception e) {
+            // 그 사이 스스로 나갔거나 다른 서버의 정리 작업이 먼저 내보낸 경우
+        }
+    }
+}
@@ -0,0 +1,519 @@
+package com.kibaeon.backend.room;
+
+import com.kibaeon.backend.room.dto.RoomListResponse;
+import com.kibaeon.backend.room.dto.RoomPageResponse;
+import com.kibaeon.backend.user.CharacterType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+// Redis 방 저장소
+// 방 하나는 아래 키들로 나뉘어 저장되어, 준비 상태 하나가 바뀌면 그 필드 하나만 씀
+//   room:{roomId}             HASH  방 스칼라 필드 (이름, 방장, 정원, 상태 ...)
+//   room:{roomId}:players     LIST  입장 순서대로의 userId
+//   room:{roomId}:nicknames   HASH  userId -> 닉네임
+//   room:{roomId}:ready       HASH  userId -> "1" (준비) / 준비를 푼 시각 ms (예전 값 "0"은 아주 오래전으로 봄)
+//   room:{roomId}:characters  HASH  userId -> CharacterType
+//   room:{roomId}:timer-owner STRING 방 타이머를 들고 있는 서버 id (기한 있음)
+@Repository
+@RequiredArgsConstructor
+public class RoomRedisRepository {
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private static final String ROOM_KEY_PREFIX = "room:";
+    private static final String USER_ROOM_KEY_PREFIX = "user:room:";
+    // 로비 인덱스: member = roomId, score = 생성 순번 (KEYS 없이 방 목록을 페이지 단위로 조회)
+    private static final String LOBBY_INDEX_KEY = "lobby:rooms";
+    private static final String LOBBY_SEQUENCE_KEY = "lobby:rooms:seq";
+    private static final int MAX_DELETE_ATTEMPTS = 5;
+
+    // 로비 목록에 필요한 필드만 읽음 (RoomListResponse 순서)
+    private static final Object[] LOBBY_FIELDS = {
+            "roomId", "roomName", "hostId", "hostNickname", "maxPlayers", "privateRoom", "status", "createdAt"
+    };
+
+    // 방 변경은 Redis 스크립트로 원자적으로 실행 (읽기-수정-쓰기 경합 방지, 요청당 왕복 1회)
+    private static final RedisScript<List> CREATE_SCRIPT = script("create");
+    private static final RedisScript<List> JOIN_SCRIPT = script("join");
+    private static final RedisScript<List> LEAVE_SCRIPT = script("leave");
+    private static final RedisScript<List> KICK_SCRIPT = script("kick");
+    private static final RedisScript<List> DELETE_SCRIPT = script("delete");
+    private static final RedisScript<List> READY_SCRIPT = script("ready");
+    private static final RedisScript<List> TRANSFER_HOST_SCRIPT = script("transfer-host");
+    private static final RedisScript<List> START_SCRIPT = script("start");
+    private static final RedisScript<List> FINISH_SCRIPT = script("finish");
+    private static final RedisScript<List> ABORT_START_SCRIPT = script("abort-start");
+    private static final RedisScript<Long> UNMAP_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/room/unmap.lua"), Long.class);
+    private static final RedisScript<String> CLAIM_TIMER_OWNER_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/room/claim-timer-owner.lua"), String.class);
+
+    private static RedisScript<List> script(String name) {
+        return RedisScript.of(new ClassPathResource("scripts/room/" + name + ".lua"), List.class);
+    }
+
+    // 유저의 방 ID 조회
+    public String findCurrentRoomId(String userId) {
+        return (String) redisTemplate.opsForValue().get(USER_ROOM_KEY_PREFIX + userId);
+    }
+
+    // 유저 -> 방 매핑 삭제 (방이 사라졌는데 매핑만 남은 경우)
+    public void deleteUserRoom(String userId) {
+        redisTemplate.delete(USER_ROOM_KEY_PREFIX + userId);
+    }
+
+    // 매핑이 아직 roomId를 가리킬 때만 삭제
+    public boolean deleteUserRoomIfPointsTo(String userId, String roomId) {
+        Long deleted = redisTemplate.execute(UNMAP_SCRIPT, List.of(USER_ROOM_KEY_PREFIX + userId), roomId);
+        return deleted != null && deleted == 1;
+    }
+
+    // 로비 인덱스를 조금씩 훑는 커서 (ZSCAN, 호출한 쪽에서 닫아야 함)
+    public Cursor<ZSetOperations.TypedTuple<Object>> scanLobby(int count) {
+        return redisTemplate.opsForZSet().scan(LOBBY_INDEX_KEY, ScanOptions.scanOptions().count(count).build());
+    }
+
+    // user:room:* 매핑 키를 조금씩 훑는 커서 (SCAN, KEYS처럼 Redis를 오래 막지 않음)
+    public Cursor<String> scanUserRoomKeys(int count) {
+        return redisTemplate.scan(ScanOptions.scanOptions().match(USER_ROOM_KEY_PREFIX + "*").count(count).build());
+    }
+
+    // 유저 여러 명의 현재 방 id (userIds 순서, 없으면 null)
+    public List<String> findCurrentRoomIds(List<String> userIds) {
+        List<String> keys = new ArrayList<>(userIds.size());
+        for (String userId : userIds) {
+            keys.add(USER_ROOM_KEY_PREFIX + userId);
+        }
+        List<Object> values = redisTemplate.opsForValue().multiGet(keys);
+
+        List<String> roomIds = new ArrayList<>(userIds.size());
+        for (int i = 0; i < userIds.size(); i++) {
+            roomIds.add(values != null ? (String) values.get(i) : null);
+        }
+        return roomIds;
+    }
+
+    public String userIdOf(String userRoomKey) {
+        return userRoomKey.substring(USER_ROOM_KEY_PREFIX.length());
+    }
+
+    public void removeFromLobby(String roomId) {
+        redisTemplate.opsForZSet().remove(LOBBY_INDEX_KEY, roomId);
+    }
+
+    // 방 플레이어 목록 여러 개 (파이프라인 한 번, 방이 없으면 빈 목록)
+    @SuppressWarnings("unchecked")
+    public List<List<String>> findPlayers(List<String> roomIds) {
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public Object execute(RedisOperations operations) {
+                for (String roomId : roomIds) {
+                    operations.opsForList().range(ROOM_KEY_PREFIX + roomId + ":players", 0, -1);
+                }
+                return null;
+            }
+        });
+
+        List<List<String>> players = new ArrayList<>(roomIds.size());
+        for (Object result : results) {
+            players.add(toStringList((List<Object>) result));
+        }
+        return players;
+    }
+
+    // 방 전체 조회, 없으면 null (파이프라인으로 왕복 1회)
+    @SuppressWarnings("unchecked")
+    public Room findById(String roomId) {
+        List<String> keys = roomKeys(roomId);
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+                operations.opsForHash().entries(keys.get(0));
+                operations.opsForList().range(keys.get(1), 0, -1);
+                operations.opsForHash().entries(keys.get(2));
+                operations.opsForHash().entries(keys.get(3));
+                operations.opsForHash().entries(keys.get(4));
+                return null;
+            }
+        });
+
+        Map<Object, Object> fields = (Map<Object, Object>) results.get(0);
+        if (fields == null || fields.isEmpty()) {
+            return null;
+        }
+
+        return toRoom(fields, (List<Object>) results.get(1), (Map<Object, Object>) results.get(2),
+                (Map<Object, Object>) results.get(3), (Map<Object, Object>) results.get(4));
+    }
+
+    // 로비 목록 항목 여러 개 (파이프라인 한 번), 없는 방은 결과에서 빠짐
+    @SuppressWarnings("unchecked")
+    public Map<String, RoomListResponse> findLobbyEntries(List<String> roomIds) {
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+                for (String roomId : roomIds) {
+                    operations.opsForHash().multiGet(ROOM_KEY_PREFIX + roomId, Arrays.asList(LOBBY_FIELDS));
+                    operations.opsForList().range(ROOM_KEY_PREFIX + roomId + ":players", 0, -1);
+                }
+                return null;
+            }
+        });
+
+        Map<String, RoomListResponse> rooms = new HashMap<>();
+        for (int i = 0; i < roomIds.size(); i++) {
+            List<Object> fields = (List<Object>) results.get(i * 2);
+            List<Object> players = (List<Object>) results.get(i * 2 + 1);
+            if (fields == null || fields.get(0) == null) {
+                continue;
+            }
+
+            rooms.put(roomIds.get(i), new RoomListResponse(
+                    (String) fields.get(0),
+                    (String) fields.get(1),
+                    (String) fields.get(2),
+                    (String) fields.get(3),
+                    toStringList(players),
+                    Integer.parseInt((String) fields.get(4)),
+                    "1".equals(fields.get(5)),
+                    RoomStatus.valueOf((String) fields.get(6)),
+                    LocalDateTime.parse((String) fields.get(7))
+            ));
+        }
+        return rooms;
+    }
+
+    // 로비 인덱스를 최신순으로 cursor보다 오래된 방부터 size개 읽음
+    // 방마다 목록에 필요한 필드와 플레이어 목록만 파이프라인 한 번으로 가져옴
+    @SuppressWarnings("unchecked")
+    public RoomPageResponse findLobbyPage(Long cursor, int size) {
+        double maxScore = cursor != null ? cursor - 1 : Double.MAX_VALUE;
+
+        Set<ZSetOperations.TypedTuple<Object>> entries = redisTemplate.opsForZSet()
+                .reverseRangeByScoreWithScores(LOBBY_INDEX_KEY, 0, maxScore, 0, size);
+
+        if (entries == null || entries.isEmpty()) {
+            return new RoomPageResponse(new ArrayList<>(), null);
+        }
+
+        List<String> roomIds = new ArrayList<>(entries.size());
+        long lastScore = 0;
+        for (ZSetOperations.TypedTuple<Object> entry : entries) {
+            roomIds.add((String) entry.getValue());
+            lastScore = entry.getScore().longValue();
+        }
+
+        List<RoomListResponse> rooms = new ArrayList<>(roomIds.size());
+        List<Object> staleRoomIds = new ArrayList<>();
+
+        Map<String, RoomListResponse> entriesById = findLobbyEntries(roomIds);
+        for (String roomId : roomIds) {
+            RoomListResponse room = entriesById.get(roomId);
+            if (room == null) {
+                // 방은 사라졌는데 인덱스에 남아있는 경우
+                staleRoomIds.add(roomId);
+            } else {
+                rooms.add(room);
+            }
+        }
+
+        if (!staleRoomIds.isEmpty()) {
+            redisTemplate.opsForZSet().remove(LOBBY_INDEX_KEY, staleRoomIds.toArray());
+        }
+
+        Long nextCursor = entries.size() < size ? null : lastScore;
+        return new RoomPageResponse(rooms, nextCursor);
+    }
+
+    // 방 생성 (중복 입장 확인, 저장, 매핑, 로비 인덱스 등록)
+    public void create(Room room) {
+        String hostId = room.getHostId();
+
+        List<String> args = new ArrayList<>();
+        args.add(room.getRoomId());
+        args.add(hostId);
+        args.add(room.getHostNickname());
+        args.add(room.getPlayerCharacters().get(hostId).name());
+        toFields(room).forEach((field, value) -> {
+            args.add(field);
+            args.add(value);
+        });
+
+        List<String> keys = new ArrayList<>(roomKeys(room.getRoomId()));
+        keys.add(USER_ROOM_KEY_PREFIX + hostId);
+        keys.add(LOBBY_INDEX_KEY);
+        keys.add(LOBBY_SEQUENCE_KEY);
+
+        run(CREATE_SCRIPT, keys, args.toArray(new String[0]));
+    }
+
+    // 방 입장, 입장 후 방 정보 반환
+    public Room join(String roomId, String userId, String nickname, CharacterType characterType, String password) {
+        List<String> keys = new ArrayList<>(roomKeys(roomId));
+        keys.add(USER_ROOM_KEY_PREFIX + userId);
+
+        List<?> result = run(JOIN_SCRIPT, keys,
+                roomId, userId, nickname, characterType.name(),
+                password != null ? "1" : "0", password != null ? password : "");
+
+        return toRoom(result);
+    }
+
+    // 방 나가기 (마지막 사람이면 방 삭제, 방장이면 다음 사람에게 위임)
+    public LeaveResult leave(String roomId, String userId) {
+        List<String> keys = new ArrayList<>(roomKeys(roomId));
+        keys.add(USER_ROOM_KEY_PREFIX + userId);
+        keys.add(LOBBY_INDEX_KEY);
+
+        List<?> result = run(LEAVE_SCRIPT, keys, roomId, userId);
+        if ("DELETED".equals(result.get(0))) {
+            return new LeaveResult(true, null, null);
+        }
+
+        return new LeaveResult(false, (String) result.get(1), (String) result.get(2));
+    }
+
+    // 강퇴, 강퇴 후 방 정보 반환
+    public Room kick(String roomId, String hostId, String targetId) {
+        List<String> keys = new ArrayList<>(roomKeys(roomId));
+        keys.add(USER_ROOM_KEY_PREFIX + targetId);
+
+        List<?> result = run(KICK_SCRIPT, keys, roomId, hostId, targetId);
+
+        return toRoom(result);
+    }
+
+    // 방 삭제 (모든 플레이어의 매핑과 로비 인덱스 정리)
+    // 매핑 키를 KEYS로 넘기려고 플레이어 목록을 먼저 읽음, 그 사이 누가 들어오거나 나갔으면 다시 읽고 재시도
+    public void delete(String roomId, String userId) {
+        for (int attempt = 1; ; attempt++) {
+            List<String> playerIds = findPlayers(List.of(roomId)).get(0);
+
+            List<String> keys = new ArrayList<>(roomKeys(roomId));
+            keys.add(LOBBY_INDEX_KEY);
+            List<String> args = new ArrayList<>();
+            args.add(roomId);
+            args.add(userId);
+            for (String playerId : playerIds) {
+                keys.add(USER_ROOM_KEY_PREFIX + playerId);
+                args.add(playerId);
+            }
+
+            try {
+                run(DELETE_SCRIPT, keys, args.toArray(new String[0]));
+                return;
+            } catch (RoomException e) {
+                if (e.getErrorCode() != RoomErrorCode.ROOM_CHANGED || attempt >= MAX_DELETE_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    // 준비 상태 토글, 바뀐 준비 상태 반환
+    public boolean toggleReady(String roomId, String userId) {
+        String roomKey = ROOM_KEY_PREFIX + roomId;
+        List<?> result = run(READY_SCRIPT, List.of(roomKey, roomKey + ":ready"), userId);
+
+        return "1".equals(result.get(1));
+    }
+
+    // 준비하지 않은 플레이어가 준비를 푼 시각 (ms), 준비했거나 방에 없으면 null
+    public Long findUnreadySince(String roomId, String userId) {
+        Object ready = redisTemplate.opsForHash().get(ROOM_KEY_PREFIX + roomId + ":ready", userId);
+        if (ready == null || "1".equals(ready)) {
+            return null;
+        }
+        return Long.parseLong((String) ready);
+    }
+
+    // 방 타이머 주인 서버를 정하고 (비어 있으면 instanceId가 맡음) 주인 서버 id 반환
+    // 주인이면 기한을 leaseMillis로 연장
+    public String claimTimerOwner(String roomId, String instanceId, long leaseMillis) {
+        return redisTemplate.execute(CLAIM_TIMER_OWNER_SCRIPT, List.of(ROOM_KEY_PREFIX + roomId + ":timer-owner"),
+                instanceId, String.valueOf(leaseMillis));
+    }
+
+    // 방장 위임, 새 방장 닉네임 반환
+    public String transferHost(String roomId, String hostId, String newHostId) {
+        String roomKey = ROOM_KEY_PREFIX + roomId;
+        List<?> result = run(TRANSFER_HOST_SCRIPT, List.of(roomKey, roomKey + ":nicknames"), hostId, newHostId);
+
+        return (String) result.get(1);
+    }
+
+    // 게임 시작 (방장, 인원, 준비 상태 확인 후 PLAYING, 1라운드), 시작 시점의 방 정보 반환
+    // deck은 라운드별 문장 id, 모든 플레이어가 같은 순서로 같은 문장을 받음
+    public Room startGame(String roomId, String hostId, LocalDateTime startedAt, long deckSeed, List<Long> deck) {
+        StringJoiner deckJoiner = new StringJoiner(",");
+        deck.forEach(id -> deckJoiner.add(String.valueOf(id)));
+
+        List<?> result = run(START_SCRIPT, roomKeys(roomId), hostId, startedAt.toString(),
+                String.valueOf(deckSeed), deckJoiner.toString());
+
+        return toRoom(result);
+    }
+
+    // 시작한 뒤 레이스를 띄우지 못했을 때 대기 상태로 되돌림 (startedAt이 같은 시작일 때만)
+    public void abortStart(String roomId, LocalDateTime startedAt) {
+        run(ABORT_START_SCRIPT, List.of(ROOM_KEY_PREFIX + roomId), startedAt.toString());
+    }
+
+    // 라운드 종료
+    // 남은 라운드가 있고 2명 이상 남아있으면 다음 라운드로 넘기고 {다음 라운드, 문장 id, 플레이어}를 반환
+    // 마지막 라운드였으면 WAITING으로 되돌리고 준비 상태를 초기화한 뒤 null 반환
+    @SuppressWarnings("unchecked")
+    public NextRound finishRound(String roomId) {
+        List<?> result = run(FINISH_SCRIPT, roomKeys(roomId), "0");
+        if (!"NEXT".equals(result.get(0))) {
+            return null;
+        }
+
+        return new NextRound(Integer.parseInt((String) result.get(1)), Long.parseLong((String) result.get(2)),
+                toStringList((List<Object>) result.get(3)));
+    }
+
+    // 라운드 마무리에 실패했을 때 남은 라운드 없이 WAITING으로 되돌림 (방이 PLAYING에 갇히지 않도록)
+    public void endGame(String roomId) {
+        run(FINISH_SCRIPT, roomKeys(roomId), "1");
+    }
+
+    // 다음 라운드 정보
+    public record NextRound(int round, Long sentenceId, List<String> playerIds) {
+    }
+
+    // 나가기 결과: 방 삭제 여부와 나간 뒤의 방장
+    public record LeaveResult(boolean roomDeleted, String hostId, String hostNickname) {
+    }
+
+    private List<String> roomKeys(String roomId) {
+        String roomKey = ROOM_KEY_PREFIX + roomId;
+        return List.of(roomKey, roomKey + ":players", roomKey + ":nicknames", roomKey + ":ready", roomKey + ":characters");
+    }
+
+    // 스크립트 실행 후 결과 코드 확인
+    private List<?> run(RedisScript<List> script, List<String> keys, String... args) {
+        List<?> result = redisTemplate.execute(script, keys, (Object[]) args);
+        String code = (String) result.get(0);
+
+        if (!"OK".equals(code) && !"DELETED".equals(code) && !"NEXT".equals(code)) {
+            throw new RoomException(RoomErrorCode.valueOf(code));
+        }
+
+        return result;
+    }
+
+    // Room -> 방 해시 필드 (null 값은 저장하지 않음)
+    private Map<String, String> toFields(Room room) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("roomId", room.getRoomId());
+        fields.put("roomName", room.getRoomName());
+        fields.put("hostId", room.getHostId());
+        fields.put("hostNickname", room.getHostNickname());
+        fields.put("maxPlayers", String.valueOf(room.getMaxPlayers()));
+        fields.put("privateRoom", room.isPrivateRoom() ? "1" : "0");
+        fields.put("password", room.getPassword());
+        fields.put("status", room.getStatus().name());
+        fields.put("createdAt", room.getCreatedAt().toString());
+        fields.put("startedAt", room.getStartedAt() != null ? room.getStartedAt().toString() : null);
+        fields.put("category", room.getCategory());
+        fields.put("rounds", String.valueOf(room.getRounds()));
+        fields.put("round", String.valueOf(room.getCurrentRound()));
+        fields.values().removeIf(Objects::isNull);
+        return fields;
+    }
+
+    // 스크립트 결과 {code, 방 필드, 플레이어 목록, 닉네임, 준비 상태, 캐릭터} -> Room
+    @SuppressWarnings("unchecked")
+    private Room toRoom(List<?> result) {
+        return toRoom(pairsToMap((List<Object>) result.get(1)), (List<Object>) result.get(2),
+                pairsToMap((List<Object>) result.get(3)), pairsToMap((List<Object>) result.get(4)),
+                pairsToMap((List<Object>) result.get(5)));
+    }
+
+    private Room toRoom(Map<Object, Object> fields, List<Object> players, Map<Object, Object> nicknames,
+                        Map<Object, Object> ready, Map<Object, Object> characters) {
+        Room room = new Room();
+        room.setRoomId((String) fields.get("roomId"));
+        room.setRoomName((String) fields.get("roomName"));
+        room.setHostId((String) fields.get("hostId"));
+        room.setHostNickname((String) fields.get("hostNickname"));
+        room.setMaxPlayers(Integer.parseInt((String) fields.get("maxPlayers")));
+        room.setPrivateRoom("1".equals(fields.get("privateRoom")));
+        room.setPassword((String) fields.get("password"));
+        room.setStatus(RoomStatus.valueOf((String) fields.get("status")));
+        room.setCreatedAt(LocalDateTime.parse((String) fields.get("createdAt")));
+        Object startedAt = fields.get("startedAt");
+        room.setStartedAt(startedAt != null ? LocalDateTime.parse((String) startedAt) : null);
+        room.setCategory((String) fields.get("category"));
+        room.setRounds(parseInt(fields.get("rounds"), 1));
+        room.setCurrentRound(parseInt(fields.get("round"), 0));
+        Object deckSeed = fields.get("deckSeed");
+        room.setDeckSeed(deckSeed != null ? Long.parseLong((String) deckSeed) : 0);
+        room.setDeck(parseDeck(fields.get("deck")));
+
+        room.setPlayerIds(toStringList(players));
+        Map<String, String> playerNicknames = new HashMap<>();
+        Map<String, Boolean> readyStatus = new HashMap<>();
+        Map<String, CharacterType> playerCharacters = new HashMap<>();
+        for (String playerId : room.getPlayerIds()) {
+            playerNicknames.put(playerId, (String) nicknames.get(playerId));
+            readyStatus.put(playerId, "1".equals(ready.get(playerId)));
+            Object characterType = characters.get(playerId);
+            if (characterType != null) {
+                playerCharacters.put(playerId, CharacterType.valueOf((String) characterType));
+            }
+        }
+        room.setPlayerNicknames(playerNicknames);
+        room.setReadyStatus(readyStatus);
+        room.setPlayerCharacters(playerCharacters);
+
+        return room;
+    }
+
+    private int parseInt(Object value, int defaultValue) {
+        return value != null ? Integer.parseInt((String) value) : defaultValue;
+    }
+
+    // "12,5,77" -> [12, 5, 77]
+    private List<Long> parseDeck(Object value) {
+        List<Long> deck = new ArrayList<>();
+        if (value != null && !((String) value).isEmpty()) {
+            for (String id : ((String) value).split(",")) {
+                deck.add(Long.parseLong(id));
+            }
+        }
+        return deck;
+    }
+
+    // HGETALL 결과 [field, value, field, value ...] -> Map
+    private Map<Object, Object> pairsToMap(List<Object> pairs) {
+        Map<Object, Object> map = new HashMap<>();
+        for (int i = 0; i + 1 < pairs.size(); i += 2) {
+            map.put(pairs.get(i), pairs.get(i + 1));
+        }
+        return map;
+    }
+
+    private List<String> toStringList(List<Object> values) {
+        List<String> strings = new ArrayList<>(values != null ? values.size() : 0);
+        if (values != null) {
+            for (Object value : values) {
+                strings.add((String) value);
+            }
+        }
+        return strings;
+    }
+}
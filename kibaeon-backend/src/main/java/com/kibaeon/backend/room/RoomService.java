@@ -1,60 +1,49 @@
 package com.kibaeon.backend.room;
 
-import com.kibaeon.backend.room.dto.RoomListResponse;
-import com.kibaeon.backend.user.User;
+import com.kibaeon.backend.room.dto.LobbyChangesResponse;
+import com.kibaeon.backend.room.dto.RoomEvent;
+import com.kibaeon.backend.room.dto.RoomPageResponse;
+import com.kibaeon.backend.user.UserSummary;
 import com.kibaeon.backend.user.UserService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
-import tools.jackson.databind.ObjectMapper;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Objects;
-import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class RoomService {
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final RoomRedisRepository roomRepository;
     private final UserService userService;
-    private final ObjectMapper objectMapper = new ObjectMapper();
-    private static final String ROOM_KEY_PREFIX = "room:";
-    private static final String USER_ROOM_KEY_PREFIX = "user:room:";
+    private final RoomEventPublisher roomEventPublisher;
+    private final LobbyFeed lobbyFeed;
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int MAX_ROUNDS = 10;
 
     // 유저의 방 ID 조회
     public String getCurrentRoomId(String userId) {
-        return (String) redisTemplate.opsForValue().get(USER_ROOM_KEY_PREFIX + userId);
+        return roomRepository.findCurrentRoomId(userId);
     }
     // 방 생성
-    public Room createRoom(String roomName, String hostId, int maxPlayers, boolean isPrivate, String password) {
+    public Room createRoom(String roomName, String hostId, int maxPlayers, boolean isPrivate, String password, int rounds, String category) {
         try {
-            // 이미 다른 방에 있는지 확인
-            String currentRoomId = getCurrentRoomId(hostId);
-            if (currentRoomId != null) {
-                throw new RuntimeException("이미 다른 방에 입장해 있어요.");
-            }
-
             // UUID로 고유 방 id 만들기
             String roomId = UUID.randomUUID().toString();
 
             // 방장 정보 가져오기
-            User host = userService.findById(Long.parseLong(hostId));
+            UserSummary host = userService.getSummary(Long.parseLong(hostId));
 
             // 방 객체 생성 (생성자에서 이미 hostId를 playerIds에 추가함)
-            Room room = new Room(roomId, roomName, hostId, host.getNickname(), maxPlayers, isPrivate, password);
+            Room room = new Room(roomId, roomName, hostId, host.nickname(), maxPlayers, isPrivate, password);
 
             // 방장의 캐릭터 정보만 추가 (playerIds와 readyStatus는 생성자에서 이미 추가됨)
-            room.getPlayerCharacters().put(hostId, host.getCharacterType());
+            room.getPlayerCharacters().put(hostId, host.characterType());
+            room.setRounds(Math.max(1, Math.min(rounds, MAX_ROUNDS)));
+            room.setCategory(category != null && !category.isBlank() ? category : null);
 
-            String roomJson = objectMapper.writeValueAsString(room);
-            String key = ROOM_KEY_PREFIX + roomId;
-
-            redisTemplate.opsForValue().set(key, roomJson);
-            redisTemplate.opsForValue().set(USER_ROOM_KEY_PREFIX + hostId, roomId);
+            // 중복 입장 확인, 저장, 매핑, 로비 인덱스 등록을 스크립트 한 번으로 처리
+            roomRepository.create(room);
+            lobbyFeed.created(roomId);
 
             return room;
         } catch (Exception e) {
@@ -63,94 +52,47 @@ public class RoomService {
     }
 
     // 방 목록 조회 (비밀번호 제외)
-    public List<RoomListResponse> getAllRooms() {
+    // 로비 인덱스를 최신순으로 cursor보다 오래된 방부터 size개 읽음
+    public RoomPageResponse getRooms(Long cursor, int size) {
         try {
-            Set<String> keys = redisTemplate.keys(ROOM_KEY_PREFIX + "*");
-
-            if (keys == null || keys.isEmpty()) {
-                return new ArrayList<>();
-            }
-
-            return keys.stream()
-                    .map(key -> {
-                        try {
-                            String roomJson = (String)redisTemplate.opsForValue().get(key);
-                            Room room = objectMapper.readValue(roomJson, Room.class);
-                            return RoomListResponse.fromRoom(room);
-                        } catch (Exception e) {
-                            return null;
-                        }
-                    })
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.toList());
+            int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+            return roomRepository.findLobbyPage(cursor, pageSize);
         } catch (Exception e) {
             throw new RuntimeException("방 목록 조회에 실패했어요. : " + e.getMessage(), e);
         }
     }
 
+    // 로비 변경분 (since 버전 이후), 기록이 잘렸으면 첫 페이지 스냅샷
+    public LobbyChangesResponse getLobbyChanges(long since) {
+        try {
+            return lobbyFeed.changesSince(since);
+        } catch (Exception e) {
+            throw new RuntimeException("로비 변경분 조회에 실패했어요. :" + e.getMessage(), e);
+        }
+    }
+
     // 방 삭제
     // 이 기능은 방장이 방 폭파를 위한 기능 프론트에 구현은 하지 않았지만 우선 남겨둠.
     public void deleteRoom(String roomId, String userId) {
         try {
-            String key = ROOM_KEY_PREFIX + roomId;
-
-            // 방 존재 여부 확인
-            String roomJson = (String)redisTemplate.opsForValue().get(key);
-            if (roomJson == null) {
-                throw new RuntimeException("존재하지 않는 방이에요");
-            }
-
-            // 방 정보 가져와서 방장인지 확인
-            Room room = objectMapper.readValue(roomJson, Room.class);
-            if (!room.getHostId().equals(userId)) {
-                throw new RuntimeException("방장만 방을 삭제할 수 있어요.");
-            }
-
-            redisTemplate.delete(key);
+            roomRepository.delete(roomId, userId);
+            roomEventPublisher.publish(RoomEvent.roomDeleted(roomId));
+            lobbyFeed.removed(roomId);
         } catch (Exception e) {
             throw new RuntimeException("방 삭제에 실패했어요. : " + e.getMessage(), e);
         }
     }
 
     // 방 입장
+    // 정원/비밀번호 확인과 플레이어 추가가 Redis 안에서 한 번에 실행되어 동시 입장에도 정원을 넘지 않음
     public Room joinRoom(String roomId, String userId, String password) {
         try {
-            // 이미 다른 방에 있는지 확인
-            String currentRoomId = getCurrentRoomId(userId);
-            if (currentRoomId != null) {
-                throw new RuntimeException("이미 다른 방에 입장해 있어요.");
-            }
-
-            // 방 존재 여부 확인
-            String key = ROOM_KEY_PREFIX + roomId;
-            String roomJson = (String)redisTemplate.opsForValue().get(key);
-            if (roomJson == null) {
-                throw new RuntimeException("존재하지 않는 방이에요.");
-            }
-
-            Room room = objectMapper.readValue(roomJson, Room.class);
-
-            if (room.isFull()) {
-                throw new RuntimeException("방이 가득 찼어요.");
-            }
-            if (room.isPrivateRoom()) {
-                if (password == null || !password.equals(room.getPassword())) {
-                    throw new RuntimeException("비밀번호가 틀렸어요.");
-                }
-            }
-
             // 유저 정보 가져오기
-            User user = userService.findById(Long.parseLong(userId));
+            UserSummary user = userService.getSummary(Long.parseLong(userId));
 
-            // 방에 유저 정보 추가
-            room.getPlayerIds().add(userId);
-            room.getPlayerNicknames().put(userId, user.getNickname());
-            room.getReadyStatus().put(userId, false);
-            room.getPlayerCharacters().put(userId, user.getCharacterType());
-
-            // 변경 정보 redis에 저장
-            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(room));
-            redisTemplate.opsForValue().set(USER_ROOM_KEY_PREFIX + userId, roomId);
+            Room room = roomRepository.join(roomId, userId, user.nickname(), user.characterType(), password);
+            roomEventPublisher.publish(RoomEvent.playerJoined(roomId, userId, user.nickname(), user.characterType()));
+            lobbyFeed.updated(roomId);
 
             return room;
         } catch (Exception e) {
@@ -161,48 +103,71 @@ public class RoomService {
     // 방 나가기
     public void leaveRoom(String roomId, String userId) {
         try {
-            String key = ROOM_KEY_PREFIX + roomId;
-            String roomJson = (String)redisTemplate.opsForValue().get(key);
-
-            if (roomJson == null) {
-                throw new RuntimeException("존재하지 않는 방이에요.");
+            RoomRedisRepository.LeaveResult result = roomRepository.leave(roomId, userId);
+            if (result.roomDeleted()) {
+                // 마지막 플레이어가 나감 (남은 카운트다운/타이머 정리)
+                roomEventPublisher.publish(RoomEvent.roomDeleted(roomId));
+                lobbyFeed.removed(roomId);
+            } else {
+                roomEventPublisher.publish(RoomEvent.playerLeft(roomId, userId, result.hostId(), result.hostNickname()));
+                lobbyFeed.updated(roomId);
             }
+        } catch (Exception e) {
+            throw new RuntimeException("방 나가기에 실패했어요. :" + e.getMessage(), e);
+        }
+    }
 
-            Room room = objectMapper.readValue(roomJson, Room.class);
-            if (!room.getPlayerIds().contains(userId)) {
-                throw new RuntimeException("이 방에 입장해 있지 않아요.");
-            }
+    // 강퇴 (방장만 가능)
+    public Room kickPlayer(String roomId, String hostId, String targetId) {
+        try {
+            Room room = roomRepository.kick(roomId, hostId, targetId);
+            roomEventPublisher.publish(RoomEvent.playerKicked(roomId, targetId));
+            lobbyFeed.updated(roomId);
 
-            // 나간 사람이 방장인지 먼저 확인
-            boolean wasHost = room.getHostId().equals(userId);
+            return room;
+        } catch (Exception e) {
+            throw new RuntimeException("강퇴에 실패했어요. :" + e.getMessage(), e);
+        }
+    }
 
-            // 유저 제거
-            room.getPlayerIds().remove(userId);
-            room.getPlayerNicknames().remove(userId);
-            room.getReadyStatus().remove(userId);
-            room.getPlayerCharacters().remove(userId);
+    // 준비 상태 토글 (해당 플레이어의 준비 필드 하나만 변경)
+    public boolean toggleReady(String roomId, String userId) {
+        try {
+            boolean ready = roomRepository.toggleReady(roomId, userId);
+            roomEventPublisher.publish(RoomEvent.readyChanged(roomId, userId, ready));
+
+            return ready;
+        } catch (Exception e) {
+            throw new RuntimeException("준비 상태 변경에 실패했어요. :" + e.getMessage(), e);
+        }
+    }
 
-            redisTemplate.delete(USER_ROOM_KEY_PREFIX + userId);
+    // 방장 위임 (방장만 가능)
+    public void transferHost(String roomId, String hostId, String newHostId) {
+        try {
+            String hostNickname = roomRepository.transferHost(roomId, hostId, newHostId);
+            roomEventPublisher.publish(RoomEvent.hostChanged(roomId, hostId, newHostId, hostNickname));
+            lobbyFeed.updated(roomId);
+        } catch (Exception e) {
+            throw new RuntimeException("방장 위임에 실패했어요. :" + e.getMessage(), e);
+        }
+    }
 
-            // 방에 유저가 없으면 방 삭제
-            if (room.getPlayerIds().isEmpty()) {
-                redisTemplate.delete(key);
-                return;
+    // 방 전체 상태 (입장한 플레이어만, 비밀번호 제외)
+    public Room getRoomForMember(String roomId, String userId) {
+        try {
+            Room room = roomRepository.findById(roomId);
+            if (room == null) {
+                throw new RoomException(RoomErrorCode.ROOM_NOT_FOUND);
             }
-
-            // 나간 사람이 방장이었다면 다음 사람에게 방장 위임
-            if (wasHost) {
-                String newHostId = room.getPlayerIds().get(0);
-                User newHost = userService.findById(Long.parseLong(newHostId));
-                room.transferHost(newHostId);
-                room.setHostNickname(newHost.getNickname());
+            if (!room.getPlayerIds().contains(userId)) {
+                throw new RoomException(RoomErrorCode.NOT_IN_ROOM);
             }
+            room.setPassword(null);
 
-            // 방 정보 업데이트
-            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(room));
-
+            return room;
         } catch (Exception e) {
-            throw new RuntimeException("방 나가기에 실패했어요. :" + e.getMessage(), e);
+            throw new RuntimeException("방 조회에 실패했어요. :" + e.getMessage(), e);
         }
     }
 
@@ -215,20 +180,17 @@ public class RoomService {
                 return null;
             }
 
-            String key = ROOM_KEY_PREFIX + roomId;
-            String roomJson = (String)redisTemplate.opsForValue().get(key);
+            Room room = roomRepository.findById(roomId);
 
-            if (roomJson == null) {
+            if (room == null) {
                 // 방은 삭제되었는데 유저 매핑에 남아있는 경우
-                redisTemplate.delete(USER_ROOM_KEY_PREFIX + userId);
+                roomRepository.deleteUserRoom(userId);
                 return null;
             }
 
-            Room room = objectMapper.readValue(roomJson, Room.class);
-
             // 방 정보에도 정말 유저가 있는지 확인
             if (!room.getPlayerIds().contains(userId)) {
-                redisTemplate.delete(USER_ROOM_KEY_PREFIX + userId);
+                roomRepository.deleteUserRoom(userId);
                 return null;
             }
 
@@ -0,0 +1,227 @@
+package com.kibaeon.backend.room;
+
+import com.kibaeon.backend.metrics.FailureMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+
+// 방 단위 단일 스레드 실행기 묶음
+// roomId 해시로 샤드를 고르고, 같은 방의 명령은 항상 같은 스레드에서 순서대로 실행되므로 방 상태에 락이 필요 없음
+// 샤드마다 락 없는 큐(ConcurrentLinkedQueue) + park/unpark 라서 명령을 넣는 쪽도 락을 잡지 않음
+// 주기 작업(레이스 틱 등)도 샤드 스레드에서 돌아서 명령과 섞여도 경합이 없음
+// 방 타이머(시작 카운트다운, 라운드 제한 시간, 잠수 강퇴)는 샤드마다 하나인 TimerWheel에 걸림
+// 방이 수천 개라도 타이머마다 스레드나 ScheduledFuture를 만들지 않고, 등록/취소는 O(1)
+// 샤드 스레드는 Redis/DB를 기다리지 않음 (한 방의 I/O가 같은 샤드의 다른 방 틱을 막지 않도록 offload로 넘김)
+@Component
+public class RoomShards {
+    private final Shard[] shards;
+    // offload 작업용 가상 스레드
+    private final ExecutorService io = Executors.newVirtualThreadPerTaskExecutor();
+    // 샤드 명령/타이머에서 삼킨 실패 (source, 예외), 주입 전에는 버림
+    private volatile BiConsumer<String, Throwable> failures = (source, e) -> {
+    };
+
+    public RoomShards(@Value("${room.shards:0}") int shardCount) {
+        int count = shardCount > 0 ? shardCount : Runtime.getRuntime().availableProcessors();
+        shards = new Shard[count];
+        for (int i = 0; i < count; i++) {
+            shards[i] = new Shard(i, (source, e) -> failures.accept(source, e));
+        }
+        for (Shard shard : shards) {
+            shard.thread.start();
+        }
+    }
+
+    // kibaeon.failures{source=shard|timer}로 셈
+    @Autowired
+    void setFailureMetrics(FailureMetrics failureMetrics) {
+        this.failures = failureMetrics::record;
+    }
+
+    public int shardCount() {
+        return shards.length;
+    }
+
+    // 같은 roomId는 항상 같은 샤드
+    public int shardOf(String roomId) {
+        int hash = roomId.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), shards.length);
+    }
+
+    // roomId의 샤드 스레드에서 실행 (순서 보장, 호출한 쪽은 기다리지 않음)
+    public void execute(String roomId, Runnable command) {
+        shards[shardOf(roomId)].submit(command);
+    }
+
+    public void execute(int shard, Runnable command) {
+        shards[shard].submit(command);
+    }
+
+    // 모든 샤드에서 periodMillis마다 task(샤드 번호) 실행
+    public void schedulePeriodic(long periodMillis, IntConsumer task) {
+        for (Shard shard : shards) {
+            shard.periodic.add(new Periodic(TimeUnit.MILLISECONDS.toNanos(periodMillis), task, System.nanoTime()));
+            LockSupport.unpark(shard.thread);
+        }
+    }
+
+    // 블로킹 작업(work)은 샤드 밖 가상 스레드에서, 결과(실패했으면 error)는 roomId의 샤드 스레드에서 then으로 받음
+    public <T> void offload(String roomId, Supplier<T> work, BiConsumer<T, Throwable> then) {
+        CompletableFuture.supplyAsync(work, io)
+                .whenComplete((result, error) -> execute(roomId, () -> then.accept(result, error)));
+    }
+
+    // 결과를 샤드로 돌려받을 필요 없는 블로킹 작업 (실패는 work 안에서 처리)
+    public void offload(Runnable work) {
+        io.execute(work);
+    }
+
+    // 샤드 스레드에서만 호출 (execute로 넘긴 명령이나 타이머 안에서)
+    // delayMillis 뒤에 roomId의 샤드 스레드에서 task 실행, 같은 방에 같은 key가 걸려 있으면 교체
+    public void schedule(String roomId, String key, long delayMillis, Runnable task) {
+        ownShard(roomId).schedule(roomId + ":" + key, delayMillis, task);
+    }
+
+    // 아직 실행 전이던 타이머를 취소했으면 true
+    public boolean cancel(String roomId, String key) {
+        return ownShard(roomId).cancel(roomId + ":" + key);
+    }
+
+    public boolean isScheduled(String roomId, String key) {
+        return ownShard(roomId).timers.containsKey(roomId + ":" + key);
+    }
+
+    private Shard ownShard(String roomId) {
+        Shard shard = shards[shardOf(roomId)];
+        if (Thread.currentThread() != shard.thread) {
+            throw new IllegalStateException("방 타이머는 샤드 스레드에서만 다룰 수 있어요.");
+        }
+        return shard;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Shard shard : shards) {
+            shard.running = false;
+            LockSupport.unpark(shard.thread);
+        }
+        io.shutdown();
+    }
+
+    private static final class Periodic {
+        final long periodNanos;
+        final IntConsumer task;
+        long nextRun;
+
+        Periodic(long periodNanos, IntConsumer task, long now) {
+            this.periodNanos = periodNanos;
+            this.task = task;
+            this.nextRun = now + periodNanos;
+        }
+    }
+
+    private static final class Shard implements Runnable {
+        private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+        // 50ms 칸 512개 = 한 바퀴 25.6초, 그보다 긴 타이머는 바퀴 수를 세며 기다림
+        private static final long TIMER_TICK_MILLIS = 50;
+        private static final int TIMER_SLOTS = 512;
+
+        final int index;
+        final Thread thread;
+        final ConcurrentLinkedQueue<Runnable> queue = new ConcurrentLinkedQueue<>();
+        final List<Periodic> periodic = new CopyOnWriteArrayList<>();
+        final BiConsumer<String, Throwable> failures;
+        // 샤드 스레드만 읽고 씀
+        final TimerWheel wheel;
+        final Map<String, TimerWheel.Timeout> timers = new HashMap<>();
+        volatile boolean running = true;
+        volatile boolean sleeping;
+
+        Shard(int index, BiConsumer<String, Throwable> failures) {
+            this.index = index;
+            this.failures = failures;
+            this.wheel = new TimerWheel(TIMER_TICK_MILLIS, TIMER_SLOTS, System.nanoTime(), e -> failures.accept("timer", e));
+            this.thread = new Thread(this, "room-shard-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        void submit(Runnable command) {
+            queue.add(command);
+            if (sleeping) {
+                LockSupport.unpark(thread);
+            }
+        }
+
+        void schedule(String key, long delayMillis, Runnable task) {
+            cancel(key);
+            // 실행되는 타이머는 항상 지금 key에 걸린 타이머 (교체된 타이머는 휠에서 이미 빠짐)
+            timers.put(key, wheel.schedule(System.nanoTime(), delayMillis, () -> {
+                timers.remove(key);
+                task.run();
+            }));
+        }
+
+        boolean cancel(String key) {
+            TimerWheel.Timeout timeout = timers.remove(key);
+            return timeout != null && wheel.cancel(timeout);
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                Runnable command;
+                while ((command = queue.poll()) != null) {
+                    runSafely(command);
+                }
+
+                long now = System.nanoTime();
+                long parkNanos = MAX_PARK_NANOS;
+                for (Periodic p : periodic) {
+                    if (now - p.nextRun >= 0) {
+                        int shardIndex = index;
+                        runSafely(() -> p.task.accept(shardIndex));
+                        // 밀렸으면 건너뛰고 다음 주기에 맞춤
+                        p.nextRun += Math.max(1, (now - p.nextRun) / p.periodNanos + 1) * p.periodNanos;
+                    }
+                    parkNanos = Math.min(parkNanos, p.nextRun - now);
+                }
+
+                wheel.advance(now);
+                if (wheel.size() > 0) {
+                    parkNanos = Math.min(parkNanos, wheel.nanosUntilNextTick(System.nanoTime()));
+                }
+
+                // 큐를 다시 확인한 뒤 잠듦 (submit이 sleeping을 보고 깨움)
+                sleeping = true;
+                if (queue.isEmpty() && running && parkNanos > 0) {
+                    LockSupport.parkNanos(this, parkNanos);
+                }
+                sleeping = false;
+            }
+        }
+
+        // 명령 하나의 실패가 샤드 스레드를 죽이지 않도록 (해당 명령만 버리고 실패 수만 셈)
+        private void runSafely(Runnable command) {
+            try {
+                command.run();
+            } catch (RuntimeException e) {
+                failures.accept("shard", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.kibaeon.backend.room;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+// 해시드 타이밍 휠 (샤드 스레드 하나에서만 사용, 동기화 없음)
+// 슬롯 배열을 tick 간격으로 한 칸씩 돌면서 그 칸의 타이머만 확인
+// 등록: 마감 시각으로 칸을 계산해 그 칸의 연결 리스트 앞에 붙임 O(1)
+// 취소: 양방향 연결 리스트에서 떼어냄 O(1)
+// 한 바퀴보다 긴 타이머는 남은 바퀴 수(rounds)를 들고 있다가 0이 되는 바퀴에 실행
+final class TimerWheel {
+    private static final int DONE = -1;  // 실행됐거나 취소됨
+    private static final int DUE = -2;   // 마감돼서 칸에서 빠졌고 곧 실행됨
+
+    private final long tickNanos;
+    private final Timeout[] slots;
+    private final int mask;
+    private final long origin;
+    private long nextTick;      // 다음에 처리할 tick 번호
+    private boolean expiring;   // 칸을 처리하는 중 (그 사이 등록되면 다음 칸부터)
+    private int size;
+    private final List<Timeout> due = new ArrayList<>();
+    // 실패한 타이머 작업 (나머지 타이머는 계속 실행)
+    private final Consumer<RuntimeException> onFailure;
+
+    TimerWheel(long tickMillis, int slotCount, long nowNanos) {
+        this(tickMillis, slotCount, nowNanos, e -> {
+        });
+    }
+
+    TimerWheel(long tickMillis, int slotCount, long nowNanos, Consumer<RuntimeException> onFailure) {
+        if (Integer.bitCount(slotCount) != 1) {
+            throw new IllegalArgumentException("slotCount는 2의 거듭제곱이어야 해요.");
+        }
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.slots = new Timeout[slotCount];
+        this.mask = slotCount - 1;
+        this.origin = nowNanos;
+        this.onFailure = onFailure;
+    }
+
+    Timeout schedule(long nowNanos, long delayMillis, Runnable task) {
+        long deadline = nowNanos + TimeUnit.MILLISECONDS.toNanos(Math.max(0, delayMillis));
+        // 칸을 처리하는 중이면 그 칸은 이미 지나간 것으로 보고 다음 칸부터
+        long base = expiring ? nextTick + 1 : nextTick;
+        // 마감 시각이 들어있는 tick (올림), 이미 지났으면 가장 가까운 tick
+        long tick = Math.max((deadline - origin + tickNanos - 1) / tickNanos, base);
+
+        Timeout timeout = new Timeout(task);
+        timeout.rounds = (tick - base) / slots.length;
+        timeout.slot = (int) (tick & mask);
+        timeout.next = slots[timeout.slot];
+        if (timeout.next != null) {
+            timeout.next.prev = timeout;
+        }
+        slots[timeout.slot] = timeout;
+        size++;
+        return timeout;
+    }
+
+    // 아직 실행 전이면 true
+    boolean cancel(Timeout timeout) {
+        if (timeout.slot == DUE) {
+            // 같은 칸에서 먼저 실행된 타이머가 취소한 경우
+            timeout.slot = DONE;
+            return true;
+        }
+        if (timeout.slot == DONE) {
+            return false;
+        }
+        unlink(timeout);
+        return true;
+    }
+
+    // now까지 지난 tick의 칸을 차례로 처리
+    void advance(long nowNanos) {
+        long target = (nowNanos - origin) / tickNanos;
+        while (nextTick <= target) {
+            expire((int) (nextTick & mask));
+            nextTick++;
+        }
+    }
+
+    // 다음 tick까지 남은 시간 (샤드가 그만큼 잠들 수 있음)
+    long nanosUntilNextTick(long nowNanos) {
+        return Math.max(0, origin + nextTick * tickNanos - nowNanos);
+    }
+
+    int size() {
+        return size;
+    }
+
+    // 마감된 타이머를 먼저 모두 칸에서 떼어낸 뒤 실행 (실행 중에 다른 타이머를 취소/등록해도 순회가 깨지지 않음)
+    private void expire(int slot) {
+        Timeout timeout = slots[slot];
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            if (timeout.rounds <= 0) {
+                unlink(timeout);
+                timeout.slot = DUE;
+                due.add(timeout);
+            } else {
+                timeout.rounds--;
+            }
+            timeout = next;
+        }
+        if (due.isEmpty()) {
+            return;
+        }
+
+        expiring = true;
+        try {
+            // 먼저 등록된 타이머부터 (칸 리스트는 최근 등록이 앞)
+            for (int i = due.size() - 1; i >= 0; i--) {
+                Timeout expired = due.get(i);
+                if (expired.slot != DUE) {
+                    continue;
+                }
+                expired.slot = DONE;
+                try {
+                    expired.task.run();
+                } catch (RuntimeException e) {
+                    // 타이머 하나의 실패가 나머지를 막지 않도록
+                    onFailure.accept(e);
+                }
+            }
+        } finally {
+            due.clear();
+            expiring = false;
+        }
+    }
+
+    private void unlink(Timeout timeout) {
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else {
+            slots[timeout.slot] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+        timeout.slot = DONE;
+        size--;
+    }
+
+    static final class Timeout {
+        private final Runnable task;
+        private long rounds;
+        private int slot;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(Runnable task) {
+            this.task = task;
+        }
+
+        boolean isPending() {
+            return slot != DONE;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.kibaeon.backend.room.codec;
+
+import com.kibaeon.backend.room.Room;
+import com.kibaeon.backend.room.RoomStatus;
+import com.kibaeon.backend.user.CharacterType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 방 상태 바이너리 형식 (버전 1)
+//   version(1) | roomId | roomName | maxPlayers(varint) | flags(1) | status(1)
+//   | createdAt(8) | [startedAt(8)] | [category] | rounds(varint) | currentRound(varint)
+//   | playerCount(varint) | players... | hostIndex(varint)
+//   player = id | nickname | character(1) | ready(1)
+// - 문자열은 길이(varint) + UTF-8
+// - 방장은 플레이어 표의 인덱스로만 적어서 id, 닉네임을 한 번만 씀 (JSON은 userId가 맵마다 반복됨)
+// - enum은 ordinal 한 바이트라서 enum 상수는 끝에만 추가해야 함 (순서가 바뀌면 VERSION을 올림)
+// - 비밀번호, 덱은 클라이언트로 보내는 값이 아니라서 담지 않음
+public class BinaryRoomCodec implements RoomCodec {
+    static final int VERSION = 1;
+
+    private static final int FLAG_PRIVATE = 1;
+    private static final int FLAG_STARTED = 1 << 1;
+    private static final int FLAG_CATEGORY = 1 << 2;
+    private static final int NO_CHARACTER = 0xFF;
+
+    private static final CharacterType[] CHARACTER_TYPES = CharacterType.values();
+    private static final RoomStatus[] STATUSES = RoomStatus.values();
+
+    @Override
+    public byte[] encode(Room room) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + room.getPlayerIds().size() * 24);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            writeString(out, room.getRoomId());
+            writeString(out, room.getRoomName());
+            writeVarInt(out, room.getMaxPlayers());
+
+            int flags = (room.isPrivateRoom() ? FLAG_PRIVATE : 0)
+                    | (room.getStartedAt() != null ? FLAG_STARTED : 0)
+                    | (room.getCategory() != null ? FLAG_CATEGORY : 0);
+            out.writeByte(flags);
+            out.writeByte(room.getStatus().ordinal());
+            out.writeLong(toMillis(room.getCreatedAt()));
+            if (room.getStartedAt() != null) {
+                out.writeLong(toMillis(room.getStartedAt()));
+            }
+            if (room.getCategory() != null) {
+                writeString(out, room.getCategory());
+            }
+            writeVarInt(out, room.getRounds());
+            writeVarInt(out, room.getCurrentRound());
+
+            List<String> playerIds = room.getPlayerIds();
+            writeVarInt(out, playerIds.size());
+            int hostIndex = -1;
+            for (int i = 0; i < playerIds.size(); i++) {
+                String playerId = playerIds.get(i);
+                if (playerId.equals(room.getHostId())) {
+                    hostIndex = i;
+                }
+                CharacterType character = room.getPlayerCharacters().get(playerId);
+
+                writeString(out, playerId);
+                writeString(out, room.getPlayerNicknames().getOrDefault(playerId, ""));
+                out.writeByte(character != null ? character.ordinal() : NO_CHARACTER);
+                out.writeBoolean(Boolean.TRUE.equals(room.getReadyStatus().get(playerId)));
+            }
+            // 0이면 방장이 플레이어 표에 없음 (뒤에 id, 닉네임을 따로 씀)
+            writeVarInt(out, hostIndex + 1);
+            if (hostIndex < 0) {
+                writeString(out, room.getHostId());
+                writeString(out, room.getHostNickname());
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("방 인코딩에 실패했어요. :" + e.getMessage(), e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public Room decode(byte[] bytes) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            int version = in.readUnsignedByte();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("지원하지 않는 방 형식 버전이에요. : " + version);
+            }
+
+            Room room = new Room();
+            room.setRoomId(readString(in));
+            room.setRoomName(readString(in));
+            room.setMaxPlayers(readVarInt(in));
+
+            int flags = in.readUnsignedByte();
+            room.setPrivateRoom((flags & FLAG_PRIVATE) != 0);
+            room.setStatus(STATUSES[checkIndex(in.readUnsignedByte(), STATUSES.length, "상태")]);
+            room.setCreatedAt(fromMillis(in.readLong()));
+            if ((flags & FLAG_STARTED) != 0) {
+                room.setStartedAt(fromMillis(in.readLong()));
+            }
+            if ((flags & FLAG_CATEGORY) != 0) {
+                room.setCategory(readString(in));
+            }
+            room.setRounds(readVarInt(in));
+            room.setCurrentRound(readVarInt(in));
+
+            int playerCount = checkIndex(readVarInt(in), bytes.length, "플레이어 수");
+            List<String> playerIds = new ArrayList<>(playerCount);
+            Map<String, String> nicknames = new HashMap<>();
+            Map<String, Boolean> ready = new HashMap<>();
+            Map<String, CharacterType> characters = new HashMap<>();
+            for (int i = 0; i < playerCount; i++) {
+                String playerId = readString(in);
+                playerIds.add(playerId);
+                nicknames.put(playerId, readString(in));
+                int character = in.readUnsignedByte();
+                if (character != NO_CHARACTER) {
+                    characters.put(playerId, CHARACTER_TYPES[checkIndex(character, CHARACTER_TYPES.length, "캐릭터")]);
+                }
+                ready.put(playerId, in.readBoolean());
+            }
+            room.setPlayerIds(playerIds);
+            room.setPlayerNicknames(nicknames);
+            room.setReadyStatus(ready);
+            room.setPlayerCharacters(characters);
+            room.setDeck(new ArrayList<>());
+
+            int hostIndex = readVarInt(in) - 1;
+            if (hostIndex >= 0) {
+                checkIndex(hostIndex, playerIds.size(), "방장 인덱스");
+                room.setHostId(playerIds.get(hostIndex));
+                room.setHostNickname(nicknames.get(room.getHostId()));
+            } else {
+                room.setHostId(readString(in));
+                room.setHostNickname(readString(in));
+            }
+            return room;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("방 디코딩에 실패했어요. :" + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public String contentType() {
+        return "application/vnd.kibaeon.room.v" + VERSION;
+    }
+
+    // 잘못된 입력이 ArrayIndexOutOfBoundsException으로 새지 않도록 범위 확인 (0 <= index < size)
+    private static int checkIndex(int index, int size, String name) {
+        if (index < 0 || index >= size) {
+            throw new IllegalArgumentException("방 디코딩에 실패했어요. : 잘못된 " + name + " 값 " + index);
+        }
+        return index;
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static LocalDateTime fromMillis(long millis) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(millis, 1000), (int) Math.floorMod(millis, 1000) * 1_000_000, ZoneOffset.UTC);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, utf8.length);
+        out.write(utf8);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = readVarInt(in);
+        if (length < 0 || length > in.available()) {
+            throw new IllegalArgumentException("방 디코딩에 실패했어요. : 잘못된 문자열 길이 " + length);
+        }
+        byte[] utf8 = new byte[length];
+        in.readFully(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    // 7비트씩 끊어 쓰는 가변 길이 정수 (작은 값은 1바이트)
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("varint가 너무 길어요.");
+    }
+}
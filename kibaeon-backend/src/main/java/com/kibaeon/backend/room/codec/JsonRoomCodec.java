@@ -0,0 +1,26 @@
+package com.kibaeon.backend.room.codec;
+
+import com.kibaeon.backend.room.Room;
+import lombok.RequiredArgsConstructor;
+import tools.jackson.databind.ObjectMapper;
+
+// 기존 JSON 형식 (사람이 읽기 쉽고 클라이언트 변경이 필요 없음)
+@RequiredArgsConstructor
+public class JsonRoomCodec implements RoomCodec {
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public byte[] encode(Room room) {
+        return objectMapper.writeValueAsBytes(room);
+    }
+
+    @Override
+    public Room decode(byte[] bytes) {
+        return objectMapper.readValue(bytes, Room.class);
+    }
+
+    @Override
+    public String contentType() {
+        return "application/json";
+    }
+}
@@ -0,0 +1,17 @@
+package com.kibaeon.backend.room.codec;
+
+import com.kibaeon.backend.room.Room;
+
+// 방 전체 상태를 한 덩어리로 주고받을 때 쓰는 직렬화 방식 (room.codec 설정으로 선택)
+// 지금은 GET /api/rooms/{roomId}/snapshot 응답에만 쓰임
+// STOMP 푸시(/topic/rooms/{roomId})는 방 전체가 아니라 바뀐 부분만 보내는 RoomEvent라서 계속 JSON,
+// 푸시에 바이너리를 쓰는 것은 클라이언트에 디코더가 생길 때까지 미룸
+public interface RoomCodec {
+    byte[] encode(Room room);
+
+    // 형식이 잘못됐으면 IllegalArgumentException
+    Room decode(byte[] bytes);
+
+    // HTTP/STOMP content-type
+    String contentType();
+}
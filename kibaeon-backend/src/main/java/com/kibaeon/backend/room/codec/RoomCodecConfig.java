@@ -0,0 +1,20 @@
+package com.kibaeon.backend.room.codec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import tools.jackson.databind.ObjectMapper;
+
+// room.codec: json(기본) | binary
+@Configuration
+public class RoomCodecConfig {
+
+    @Bean
+    public RoomCodec roomCodec(@Value("${room.codec:json}") String codec, ObjectMapper objectMapper) {
+        return switch (codec) {
+            case "binary" -> new BinaryRoomCodec();
+            case "json" -> new JsonRoomCodec(objectMapper);
+            default -> throw new IllegalArgumentException("알 수 없는 room.codec 값이에요. : " + codec);
+        };
+    }
+}
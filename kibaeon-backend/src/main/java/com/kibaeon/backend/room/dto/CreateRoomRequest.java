@@ -8,4 +8,6 @@ public class CreateRoomRequest {
     private int maxPlayers = 2;
     private boolean privateRoom = false;
     private String password;
+    private int rounds = 1;        // 라운드 수
+    private String category;       // 문장 카테고리 (비우면 전체)
 }
@@ -0,0 +1,15 @@
+package com.kibaeon.backend.room.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+// 재연결 시 놓친 로비 변경분
+// 기록이 남아 있으면 changes만, 너무 오래돼서 잘려나갔으면 snapshot(첫 페이지)을 대신 보냄
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record LobbyChangesResponse(
+        long version,                 // 이 응답까지 반영된 버전, 이후 /topic/lobby 메시지는 이보다 큰 것만 적용
+        List<LobbyDelta> changes,
+        RoomPageResponse snapshot
+) {
+}
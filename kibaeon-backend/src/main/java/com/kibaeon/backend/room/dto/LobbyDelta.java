@@ -0,0 +1,15 @@
+package com.kibaeon.backend.room.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.kibaeon.backend.room.LobbyChangeType;
+
+// 로비 변경분 하나 (/topic/lobby), 클라이언트는 version 순서로 적용
+// REMOVED면 room 없음
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record LobbyDelta(
+        long version,
+        LobbyChangeType type,
+        String roomId,
+        RoomListResponse room
+) {
+}
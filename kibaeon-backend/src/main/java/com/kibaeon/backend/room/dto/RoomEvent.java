@@ -0,0 +1,52 @@
+package com.kibaeon.backend.room.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.kibaeon.backend.room.RoomEventType;
+import com.kibaeon.backend.user.CharacterType;
+
+// /topic/rooms/{roomId} 로 보내는 방 변경 이벤트 (바뀐 부분만 담고, 비어있는 필드는 생략)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record RoomEvent(
+        RoomEventType type,
+        String roomId,
+        String userId,
+        String nickname,
+        CharacterType characterType,
+        Boolean ready,
+        String hostId,
+        String hostNickname,
+        Long startsAt              // 카운트다운이 끝나고 게임이 시작될 시각 (epoch ms)
+) {
+    public static RoomEvent playerJoined(String roomId, String userId, String nickname, CharacterType characterType) {
+        return new RoomEvent(RoomEventType.PLAYER_JOINED, roomId, userId, nickname, characterType, false, null, null, null);
+    }
+
+    public static RoomEvent playerLeft(String roomId, String userId, String hostId, String hostNickname) {
+        return new RoomEvent(RoomEventType.PLAYER_LEFT, roomId, userId, null, null, null, hostId, hostNickname, null);
+    }
+
+    public static RoomEvent playerKicked(String roomId, String userId) {
+        return new RoomEvent(RoomEventType.PLAYER_KICKED, roomId, userId, null, null, null, null, null, null);
+    }
+
+    public static RoomEvent readyChanged(String roomId, String userId, boolean ready) {
+        return new RoomEvent(RoomEventType.READY_CHANGED, roomId, userId, null, null, ready, null, null, null);
+    }
+
+    // userId = 이전 방장
+    public static RoomEvent hostChanged(String roomId, String previousHostId, String hostId, String hostNickname) {
+        return new RoomEvent(RoomEventType.HOST_CHANGED, roomId, previousHostId, null, null, null, hostId, hostNickname, null);
+    }
+
+    public static RoomEvent countdownStarted(String roomId, long startsAt) {
+        return new RoomEvent(RoomEventType.COUNTDOWN_STARTED, roomId, null, null, null, null, null, null, startsAt);
+    }
+
+    public static RoomEvent countdownCancelled(String roomId) {
+        return new RoomEvent(RoomEventType.COUNTDOWN_CANCELLED, roomId, null, null, null, null, null, null, null);
+    }
+
+    public static RoomEvent roomDeleted(String roomId) {
+        return new RoomEvent(RoomEventType.ROOM_DELETED, roomId, null, null, null, null, null, null, null);
+    }
+}
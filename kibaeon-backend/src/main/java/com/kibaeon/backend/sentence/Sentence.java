@@ -5,13 +5,21 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
+import java.util.HexFormat;
 
 @Entity
-@Table(name = "sentences")
+@Table(name = "sentences", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_sentences_content_hash", columnNames = "content_hash")
+})
 @Getter
 @NoArgsConstructor
 public class Sentence {
+    public static final int MAX_CONTENT_LENGTH = 500;
+    public static final int MAX_CATEGORY_LENGTH = 50;
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -23,11 +31,37 @@ public class Sentence {
     @Column(length = 50)
     private String category;
 
+    // 중복 방지용 내용 해시 (정리한 내용의 SHA-256, 해시가 없던 예전 문장은 가져오기 때 채움)
+    @Column(length = 64)
+    private String contentHash;
+
     @CreationTimestamp
     private LocalDateTime createdAt;
 
     public Sentence(String content, String category) {
+        this.content = normalize(content);
+        this.category = category;
+        this.contentHash = hashOf(this.content);
+    }
+
+    // 문장 풀에서 꺼낸 문장 (영속 상태 아님)
+    Sentence(Long id, String content, String category) {
+        this.id = id;
         this.content = content;
         this.category = category;
     }
+
+    // 앞뒤 공백을 없애고 연속된 공백/줄바꿈을 공백 하나로
+    public static String normalize(String content) {
+        return content == null ? null : content.strip().replaceAll("\\s+", " ");
+    }
+
+    public static String hashOf(String normalizedContent) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(normalizedContent.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
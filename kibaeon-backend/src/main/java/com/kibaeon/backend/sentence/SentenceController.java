@@ -5,6 +5,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -13,10 +14,10 @@ import org.springframework.web.bind.annotation.RestController;
 public class SentenceController {
     private final SentenceService sentenceService;
 
-    // 랜덤 문장 하나 가져오기
+    // 랜덤 문장 하나 가져오기 (category를 주면 그 카테고리 안에서)
     @GetMapping("/random")
-    public ResponseEntity<SentenceResponse> getRandomSentence() {
-        Sentence sentence = sentenceService.getRandomSentence();
+    public ResponseEntity<SentenceResponse> getRandomSentence(@RequestParam(required = false) String category) {
+        Sentence sentence = sentenceService.getRandomSentence(category);
 
         return ResponseEntity.ok(new SentenceResponse(sentence));
     }
@@ -0,0 +1,16 @@
+package com.kibaeon.backend.sentence;
+
+// 문장 가져오기 진행/결과 (이번 실행분만, 이어서 실행했으면 resumedFromLine 이후부터)
+public record SentenceImportResult(
+        long lines,          // 읽은 줄 수 (파일 기준 마지막 줄 번호)
+        long records,        // 읽은 문장 수
+        long inserted,       // 새로 저장
+        long duplicates,     // 이미 있거나 파일 안에서 겹친 문장
+        long rejected,       // 비어 있거나 500자 초과, 형식 오류
+        long resumedFromLine,
+        long elapsedMillis
+) {
+    public double recordsPerSecond() {
+        return elapsedMillis == 0 ? 0 : records * 1000.0 / elapsedMillis;
+    }
+}
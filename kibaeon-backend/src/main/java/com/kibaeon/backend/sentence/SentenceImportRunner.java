@@ -0,0 +1,70 @@
+package com.kibaeon.backend.sentence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+// 문장 가져오기 CLI
+// sentence.import.file이 있을 때만 켜지고, 가져오기를 마치면 종료함
+// gradle 태스크는 웹 서버와 @Scheduled 작업을 끄고 실행하고, ApplicationReadyEvent 작업(랭킹 재구축 등)은 러너 뒤라 돌지 않음
+//
+// ./gradlew importSentences -Pfile=corpus.jsonl [-Pcategory=속담] [-Pformat=txt|csv|jsonl]
+// 중간에 멈추면 같은 명령으로 다시 실행 (<파일>.checkpoint 이후 줄부터)
+@Component
+@ConditionalOnProperty(name = "sentence.import.file")
+@RequiredArgsConstructor
+public class SentenceImportRunner implements ApplicationRunner {
+    private static final long PROGRESS_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private final SentenceImporter sentenceImporter;
+    private final ApplicationContext context;
+
+    @Value("${sentence.import.file}")
+    private String file;
+
+    @Value("${sentence.import.category:}")
+    private String category;
+
+    @Value("${sentence.import.format:}")
+    private String format;
+
+    private long lastProgress = System.nanoTime();
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int exitCode = 0;
+        try {
+            SentenceImportResult result = sentenceImporter.importFile(Path.of(file), format, category, this::printProgress);
+
+            System.out.printf("%n===== 문장 가져오기: %s =====%n", file);
+            if (result.resumedFromLine() > 0) {
+                System.out.printf("%d번째 줄 다음부터 이어서 실행%n", result.resumedFromLine());
+            }
+            System.out.printf("문장 %d개, 저장 %d개, 중복 %d개, 제외 %d개%n",
+                    result.records(), result.inserted(), result.duplicates(), result.rejected());
+            System.out.printf("%.1f초, %.0f rows/s%n", result.elapsedMillis() / 1000.0, result.recordsPerSecond());
+        } catch (RuntimeException e) {
+            System.err.println(e.getMessage());
+            exitCode = 1;
+        }
+
+        int code = exitCode;
+        System.exit(SpringApplication.exit(context, () -> code));
+    }
+
+    private void printProgress(SentenceImportResult result) {
+        long now = System.nanoTime();
+        if (now - lastProgress >= PROGRESS_INTERVAL_NANOS) {
+            lastProgress = now;
+            System.out.printf("%d번째 줄까지, 저장 %d개, %.0f rows/s%n", result.lines(), result.inserted(), result.recordsPerSecond());
+        }
+    }
+}
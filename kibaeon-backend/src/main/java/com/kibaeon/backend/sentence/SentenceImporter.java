@@ -0,0 +1,377 @@
+package com.kibaeon.backend.sentence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.function.Consumer;
+
+// 문장 대량 가져오기
+// UTF-8 파일을 한 줄씩 읽어서 batchSize개씩 모아 저장 (파일 전체를 메모리에 올리지 않음)
+//   txt   : 한 줄에 문장 하나
+//   csv   : content[,category] (첫 줄이 content로 시작하면 헤더로 보고 열 이름으로 찾음, 따옴표 안 줄바꿈 허용)
+//   jsonl : 한 줄에 {"content": "...", "category": "..."}
+// 내용은 공백을 정리한 뒤 500자 이하만, 중복은 내용 해시(content_hash)로 거름
+// 배치를 저장할 때마다 <파일>.checkpoint에 마지막 줄 번호를 남겨서, 중간에 멈추면 그 다음 줄부터 이어서 실행
+@Component
+@RequiredArgsConstructor
+public class SentenceImporter {
+    private final SentenceJdbcRepository sentenceJdbcRepository;
+    private final ObjectMapper objectMapper;
+
+    // 한 번에 저장할 문장 수 (batch INSERT 한 번, 중복 확인 SELECT 한 번)
+    @Value("${sentence.import.batch-size:1000}")
+    private int batchSize;
+
+    public SentenceImportResult importFile(Path file, String format, String defaultCategory, Consumer<SentenceImportResult> progress) {
+        Path checkpointFile = file.resolveSibling(file.getFileName() + ".checkpoint");
+        String category = blankToNull(defaultCategory);
+        if (category != null && category.length() > Sentence.MAX_CATEGORY_LENGTH) {
+            throw new IllegalArgumentException("카테고리는 " + Sentence.MAX_CATEGORY_LENGTH + "자 이하여야 해요.");
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            // 해시가 없던 예전 문장도 중복 확인에 걸리도록
+            sentenceJdbcRepository.backfillHashes(batchSize);
+
+            long resumeLine = readCheckpoint(file, checkpointFile);
+            Rows rows = Format.of(file, format).open(new Lines(reader), objectMapper);
+            while (rows.lines.number < resumeLine && rows.next() != null) {
+                // 지난 실행에서 저장한 줄은 건너뜀
+            }
+
+            Counter counter = new Counter(resumeLine, System.currentTimeMillis());
+            Map<String, Sentence> pending = new LinkedHashMap<>();
+            Row row;
+            while ((row = rows.next()) != null) {
+                counter.records++;
+                Sentence sentence = toSentence(row, category);
+                if (sentence == null) {
+                    counter.rejected++;
+                } else if (pending.putIfAbsent(sentence.getContentHash(), sentence) != null) {
+                    counter.duplicates++;
+                }
+
+                if (pending.size() >= batchSize) {
+                    flush(pending, counter);
+                    writeCheckpoint(file, checkpointFile, rows.lines.number);
+                    progress.accept(counter.toResult(rows.lines.number));
+                }
+            }
+            flush(pending, counter);
+            Files.deleteIfExists(checkpointFile);
+
+            return counter.toResult(rows.lines.number);
+        } catch (IOException e) {
+            throw new RuntimeException("문장 가져오기에 실패했어요. :" + e.getMessage(), e);
+        }
+    }
+
+    // 검증에 걸리면 null
+    private Sentence toSentence(Row row, String defaultCategory) {
+        if (row.content() == null) {
+            return null;
+        }
+        String category = blankToNull(row.category());
+        Sentence sentence = new Sentence(row.content(), category != null ? category : defaultCategory);
+
+        String content = sentence.getContent();
+        if (content.isEmpty() || content.codePointCount(0, content.length()) > Sentence.MAX_CONTENT_LENGTH) {
+            return null;
+        }
+        if (sentence.getCategory() != null && sentence.getCategory().length() > Sentence.MAX_CATEGORY_LENGTH) {
+            return null;
+        }
+        return sentence;
+    }
+
+    // 이미 저장된 해시를 한 번에 확인하고 나머지만 batch INSERT
+    private void flush(Map<String, Sentence> pending, Counter counter) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Set<String> existing = sentenceJdbcRepository.findExistingHashes(pending.keySet());
+        List<Sentence> fresh = new ArrayList<>(pending.size());
+        for (Sentence sentence : pending.values()) {
+            if (!existing.contains(sentence.getContentHash())) {
+                fresh.add(sentence);
+            }
+        }
+        // 확인한 뒤 다른 가져오기가 먼저 넣은 문장은 INSERT IGNORE로 빠지므로 중복으로 셈
+        int inserted = fresh.isEmpty() ? 0 : sentenceJdbcRepository.insertAll(fresh);
+        counter.inserted += inserted;
+        counter.duplicates += pending.size() - inserted;
+        pending.clear();
+    }
+
+    // 파일이 그대로일 때만 이어서 (크기나 수정 시각이 바뀌었으면 처음부터, 이미 넣은 문장은 중복으로 걸러짐)
+    private long readCheckpoint(Path file, Path checkpointFile) throws IOException {
+        if (!Files.exists(checkpointFile)) {
+            return 0;
+        }
+        Properties checkpoint = new Properties();
+        try (Reader reader = Files.newBufferedReader(checkpointFile, StandardCharsets.UTF_8)) {
+            checkpoint.load(reader);
+        }
+        boolean sameFile = String.valueOf(Files.size(file)).equals(checkpoint.getProperty("size"))
+                && String.valueOf(Files.getLastModifiedTime(file).toMillis()).equals(checkpoint.getProperty("modified"));
+        return sameFile ? Long.parseLong(checkpoint.getProperty("line", "0")) : 0;
+    }
+
+    // 임시 파일에 쓰고 바꿔치기 (쓰는 도중 멈춰도 이전 체크포인트가 남음)
+    private void writeCheckpoint(Path file, Path checkpointFile, long line) throws IOException {
+        Properties checkpoint = new Properties();
+        checkpoint.setProperty("line", String.valueOf(line));
+        checkpoint.setProperty("size", String.valueOf(Files.size(file)));
+        checkpoint.setProperty("modified", String.valueOf(Files.getLastModifiedTime(file).toMillis()));
+
+        Path temp = checkpointFile.resolveSibling(checkpointFile.getFileName() + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            checkpoint.store(writer, null);
+        }
+        Files.move(temp, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.strip();
+    }
+
+    private static final class Counter {
+        final long resumedFromLine;
+        final long startedAt;
+        long records;
+        long inserted;
+        long duplicates;
+        long rejected;
+
+        Counter(long resumedFromLine, long startedAt) {
+            this.resumedFromLine = resumedFromLine;
+            this.startedAt = startedAt;
+        }
+
+        SentenceImportResult toResult(long lines) {
+            return new SentenceImportResult(lines, records, inserted, duplicates, rejected, resumedFromLine,
+                    System.currentTimeMillis() - startedAt);
+        }
+    }
+
+    // 문장 한 줄 (content가 null이면 형식 오류)
+    private record Row(String content, String category) {
+        static final Row MALFORMED = new Row(null, null);
+    }
+
+    // 줄 번호를 세면서 읽기 (체크포인트 기준)
+    private static final class Lines {
+        final BufferedReader reader;
+        long number;
+
+        Lines(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        String next() throws IOException {
+            String line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            // UTF-8 BOM
+            if (number++ == 0 && line.startsWith("\uFEFF")) {
+                line = line.substring(1);
+            }
+            return line;
+        }
+    }
+
+    private abstract static class Rows {
+        final Lines lines;
+
+        Rows(Lines lines) {
+            this.lines = lines;
+        }
+
+        // 빈 줄은 건너뛰고 다음 문장, 파일 끝이면 null
+        abstract Row next() throws IOException;
+
+        String nextNonBlank() throws IOException {
+            String line;
+            while ((line = lines.next()) != null) {
+                if (!line.isBlank()) {
+                    return line;
+                }
+            }
+            return null;
+        }
+    }
+
+    private enum Format {
+        TEXT, CSV, JSONL;
+
+        static Format of(Path file, String format) {
+            String name = format != null && !format.isBlank() ? "." + format : file.getFileName().toString();
+            name = name.toLowerCase();
+            if (name.endsWith(".csv")) {
+                return CSV;
+            }
+            if (name.endsWith(".jsonl") || name.endsWith(".ndjson") || name.endsWith(".json")) {
+                return JSONL;
+            }
+            return TEXT;
+        }
+
+        Rows open(Lines lines, ObjectMapper objectMapper) throws IOException {
+            return switch (this) {
+                case TEXT -> new TextRows(lines);
+                case CSV -> new CsvRows(lines);
+                case JSONL -> new JsonRows(lines, objectMapper);
+            };
+        }
+    }
+
+    private static final class TextRows extends Rows {
+        TextRows(Lines lines) {
+            super(lines);
+        }
+
+        @Override
+        Row next() throws IOException {
+            String line = nextNonBlank();
+            return line == null ? null : new Row(line, null);
+        }
+    }
+
+    private static final class JsonRows extends Rows {
+        private final ObjectMapper objectMapper;
+
+        JsonRows(Lines lines, ObjectMapper objectMapper) {
+            super(lines);
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        Row next() throws IOException {
+            String line = nextNonBlank();
+            if (line == null) {
+                return null;
+            }
+            try {
+                JsonNode node = objectMapper.readTree(line);
+                JsonNode content = node.path("content");
+                if (content.isMissingNode() || content.isNull() || content.isContainerNode()) {
+                    return Row.MALFORMED;
+                }
+                JsonNode category = node.path("category");
+                return new Row(content.asString(), category.isValueNode() && !category.isNull() ? category.asString() : null);
+            } catch (JacksonException e) {
+                return Row.MALFORMED;
+            }
+        }
+    }
+
+    private static final class CsvRows extends Rows {
+        private int contentColumn = 0;
+        private int categoryColumn = 1;
+        private Row first;
+
+        CsvRows(Lines lines) throws IOException {
+            super(lines);
+            // 첫 줄이 헤더면 열 위치만 읽고, 아니면 첫 문장으로 돌려줌
+            String line = nextNonBlank();
+            if (line == null) {
+                return;
+            }
+            List<String> fields = parse(line);
+            if (fields != null && !fields.isEmpty() && fields.get(0).strip().equalsIgnoreCase("content")) {
+                categoryColumn = -1;
+                for (int i = 0; i < fields.size(); i++) {
+                    String name = fields.get(i).strip().toLowerCase();
+                    if (name.equals("content")) {
+                        contentColumn = i;
+                    } else if (name.equals("category")) {
+                        categoryColumn = i;
+                    }
+                }
+            } else {
+                first = toRow(fields);
+            }
+        }
+
+        @Override
+        Row next() throws IOException {
+            if (first != null) {
+                Row row = first;
+                first = null;
+                return row;
+            }
+            String line = nextNonBlank();
+            return line == null ? null : toRow(parse(line));
+        }
+
+        private Row toRow(List<String> fields) {
+            if (fields == null || fields.size() <= contentColumn) {
+                return Row.MALFORMED;
+            }
+            String category = categoryColumn >= 0 && categoryColumn < fields.size() ? fields.get(categoryColumn) : null;
+            return new Row(fields.get(contentColumn), category);
+        }
+
+        // RFC 4180: 쉼표 구분, 따옴표 안의 ""는 따옴표 하나, 따옴표가 안 닫히면 다음 줄까지 이어짐
+        // 파일 끝까지 안 닫히면 null
+        private List<String> parse(String line) throws IOException {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            int i = 0;
+            while (true) {
+                if (i == line.length()) {
+                    if (!quoted) {
+                        break;
+                    }
+                    line = lines.next();
+                    if (line == null) {
+                        return null;
+                    }
+                    field.append('\n');
+                    i = 0;
+                    continue;
+                }
+                char c = line.charAt(i++);
+                if (quoted) {
+                    if (c != '"') {
+                        field.append(c);
+                    } else if (i < line.length() && line.charAt(i) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.kibaeon.backend.sentence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// 문장 대량 가져오기용 저장소 (JDBC)
+// Sentence의 IDENTITY 키 때문에 JPA로는 INSERT가 한 건씩 나가므로, 여기서 여러 행짜리 INSERT 하나로 보냄
+// (batch로 보내면 드라이버가 합친 INSERT의 행 수를 SUCCESS_NO_INFO로만 알려줘서, 무시된 행을 셀 수 없음)
+@Repository
+@RequiredArgsConstructor
+public class SentenceJdbcRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String INSERT_SQL = "INSERT IGNORE INTO sentences (content, category, content_hash, created_at) VALUES ";
+    private static final String INSERT_ROW = "(?, ?, ?, ?)";
+    // INSERT 한 번에 넣는 최대 행 수 (자리표시자 수 제한 65535와 패킷 크기 안쪽)
+    private static final int MAX_ROWS_PER_INSERT = 1000;
+
+    // 이미 저장된 해시만 골라서 반환
+    public Set<String> findExistingHashes(Collection<String> hashes) {
+        if (hashes.isEmpty()) {
+            return Set.of();
+        }
+        NamedParameterJdbcTemplate named = new NamedParameterJdbcTemplate(jdbcTemplate);
+        return new HashSet<>(named.queryForList(
+                "SELECT content_hash FROM sentences WHERE content_hash IN (:hashes)",
+                new MapSqlParameterSource("hashes", hashes), String.class));
+    }
+
+    // 같은 해시가 그 사이 들어왔으면 (다른 가져오기와 겹친 경우) 유니크 키로 무시됨, 실제로 저장된 개수 반환
+    public int insertAll(List<Sentence> sentences) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int inserted = 0;
+        for (int from = 0; from < sentences.size(); from += MAX_ROWS_PER_INSERT) {
+            List<Sentence> rows = sentences.subList(from, Math.min(from + MAX_ROWS_PER_INSERT, sentences.size()));
+            String sql = INSERT_SQL + String.join(", ", Collections.nCopies(rows.size(), INSERT_ROW));
+            // INSERT IGNORE 한 문장의 영향받은 행 수 = 실제로 들어간 행 수
+            inserted += jdbcTemplate.update(sql, statement -> {
+                int index = 1;
+                for (Sentence sentence : rows) {
+                    statement.setString(index++, sentence.getContent());
+                    statement.setString(index++, sentence.getCategory());
+                    statement.setString(index++, sentence.getContentHash());
+                    statement.setTimestamp(index++, now);
+                }
+            });
+        }
+        return inserted;
+    }
+
+    // 해시가 없는 예전 문장에 해시 채우기 (id 순으로 chunkSize개씩, 채운 개수 반환)
+    // 이미 같은 내용이 있으면 유니크 키 때문에 건너뛰고 해시 없이 남김
+    public int backfillHashes(int chunkSize) {
+        int filled = 0;
+        long watermark = 0;
+        while (true) {
+            List<Object[]> rows = jdbcTemplate.query(
+                    "SELECT id, content FROM sentences WHERE content_hash IS NULL AND id > ? ORDER BY id LIMIT ?",
+                    (rs, rowNum) -> new Object[]{rs.getLong("id"), rs.getString("content")},
+                    watermark, chunkSize);
+            if (rows.isEmpty()) {
+                return filled;
+            }
+
+            List<Object[]> updates = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                updates.add(new Object[]{Sentence.hashOf(Sentence.normalize((String) row[1])), row[0]});
+            }
+            for (int count : jdbcTemplate.batchUpdate("UPDATE IGNORE sentences SET content_hash = ? WHERE id = ?", updates)) {
+                filled += Math.max(count, 0);
+            }
+            watermark = (long) rows.get(rows.size() - 1)[0];
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.kibaeon.backend.sentence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 메모리 문장 풀
+// 문장을 배열로 들고 있다가 랜덤 인덱스로 O(1) 선택 (DB 조회 없음)
+// 주기적으로 마지막으로 읽은 id 이후의 문장만 추가로 읽어오고, 가끔 전체를 다시 읽어 삭제/수정을 반영
+@Component
+@RequiredArgsConstructor
+public class SentencePool {
+    private static final int CHUNK_SIZE = 5_000;
+
+    private final SentenceRepository sentenceRepository;
+
+    // 몇 번의 갱신마다 전체를 다시 읽을지
+    @Value("${sentence.pool.full-reload-every:60}")
+    private int fullReloadEvery;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private int refreshCount;
+    // DB를 읽는 동안 잡고 있는 락이라 synchronized 대신 사용 (가상 스레드가 캐리어 스레드에 고정되지 않음)
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh();
+    }
+
+    // id 워터마크 이후 문장만 청크 단위로 추가
+    @Scheduled(fixedDelayString = "${sentence.pool.refresh-interval-ms:60000}",
+            initialDelayString = "${sentence.pool.refresh-interval-ms:60000}")
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            boolean fullReload = fullReloadEvery > 0 && ++refreshCount % fullReloadEvery == 0;
+            long watermark = fullReload ? 0 : snapshot.maxId;
+
+            List<Sentence> rows = new ArrayList<>();
+            List<Sentence> chunk;
+            do {
+                chunk = sentenceRepository.findByIdGreaterThanOrderByIdAsc(watermark, Limit.of(CHUNK_SIZE));
+                rows.addAll(chunk);
+                if (!chunk.isEmpty()) {
+                    watermark = chunk.get(chunk.size() - 1).getId();
+                }
+            } while (chunk.size() == CHUNK_SIZE);
+
+            if (fullReload) {
+                snapshot = Snapshot.EMPTY.append(rows);
+            } else if (!rows.isEmpty()) {
+                snapshot = snapshot.append(rows);
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    // 문장 추가 (갱신 외 경로에서 바로 반영할 때)
+    void append(List<Sentence> rows) {
+        refreshLock.lock();
+        try {
+            snapshot = snapshot.append(rows);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    // 랜덤 문장 하나, category가 null이면 전체에서 선택 (없으면 null)
+    public Sentence pick(String category) {
+        Snapshot current = snapshot;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        if (category == null) {
+            return current.size == 0 ? null : current.get(random.nextInt(current.size));
+        }
+
+        int[] bucket = current.categories.get(category);
+        return bucket == null ? null : current.get(bucket[random.nextInt(bucket.length)]);
+    }
+
+    // 시드로 섞은 겹치지 않는 문장 id count개 (같은 시드, 같은 풀이면 항상 같은 순서)
+    // 앞에서부터 count개만 섞는 부분 피셔-예이츠라 풀 크기와 상관없이 O(count)
+    // 카테고리 문장이 count보다 적으면 있는 만큼만 반환
+    public long[] deal(String category, int count, long seed) {
+        Snapshot current = snapshot;
+        int[] bucket = category == null ? null : current.categories.get(category);
+        int n = category == null ? current.size : (bucket == null ? 0 : bucket.length);
+        int k = Math.min(count, n);
+
+        // 바뀐 자리만 기록해서 전체 인덱스 배열을 복사하지 않음
+        Map<Integer, Integer> swapped = new HashMap<>();
+        SplittableRandom random = new SplittableRandom(seed);
+        long[] deck = new long[k];
+        for (int i = 0; i < k; i++) {
+            int j = i + random.nextInt(n - i);
+            int picked = swapped.getOrDefault(j, j);
+            swapped.put(j, swapped.getOrDefault(i, i));
+
+            int index = bucket == null ? picked : bucket[picked];
+            deck[i] = current.ids[index];
+        }
+        return deck;
+    }
+
+    // id로 문장 찾기 (ids는 오름차순이라 이진 탐색, 없으면 null)
+    public Sentence findById(long id) {
+        Snapshot current = snapshot;
+        int index = Arrays.binarySearch(current.ids, 0, current.size, id);
+        return index < 0 ? null : current.get(index);
+    }
+
+    // 풀에 있는 문장 (덱 구성용 스냅샷)
+    Snapshot snapshot() {
+        return snapshot;
+    }
+
+    public int size() {
+        return snapshot.size;
+    }
+
+    // 읽기 전용 스냅샷, 갱신 시 새로 만들어 통째로 교체
+    static final class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(new long[0], new String[0], new String[0], 0);
+
+        final long[] ids;
+        final String[] contents;
+        final String[] categoryOf;
+        final int size;
+        final long maxId;
+        final Map<String, int[]> categories;   // 카테고리 -> 문장 인덱스
+
+        private Snapshot(long[] ids, String[] contents, String[] categoryOf, int size) {
+            this.ids = ids;
+            this.contents = contents;
+            this.categoryOf = categoryOf;
+            this.size = size;
+            this.maxId = size == 0 ? 0 : ids[size - 1];
+            this.categories = indexCategories(categoryOf, size);
+        }
+
+        Snapshot append(List<Sentence> rows) {
+            int newSize = size + rows.size();
+            long[] newIds = Arrays.copyOf(ids, newSize);
+            String[] newContents = Arrays.copyOf(contents, newSize);
+            String[] newCategoryOf = Arrays.copyOf(categoryOf, newSize);
+
+            for (int i = 0; i < rows.size(); i++) {
+                Sentence row = rows.get(i);
+                newIds[size + i] = row.getId();
+                newContents[size + i] = row.getContent();
+                newCategoryOf[size + i] = row.getCategory();
+            }
+
+            return new Snapshot(newIds, newContents, newCategoryOf, newSize);
+        }
+
+        Sentence get(int index) {
+            return new Sentence(ids[index], contents[index], categoryOf[index]);
+        }
+
+        private static Map<String, int[]> indexCategories(String[] categoryOf, int size) {
+            Map<String, Integer> counts = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                if (categoryOf[i] != null) {
+                    counts.merge(categoryOf[i], 1, Integer::sum);
+                }
+            }
+
+            Map<String, int[]> categories = new HashMap<>();
+            Map<String, Integer> filled = new HashMap<>();
+            counts.forEach((category, count) -> {
+                categories.put(category, new int[count]);
+                filled.put(category, 0);
+            });
+            for (int i = 0; i < size; i++) {
+                String category = categoryOf[i];
+                if (category != null) {
+                    int position = filled.merge(category, 1, Integer::sum) - 1;
+                    categories.get(category)[position] = i;
+                }
+            }
+            return categories;
+        }
+    }
+}
@@ -1,11 +1,11 @@
 package com.kibaeon.backend.sentence;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
 
-import java.util.Optional;
+import java.util.List;
 
 public interface SentenceRepository extends JpaRepository<Sentence, Long> {
-    @Query(value = "SELECT * FROM sentences ORDER BY RAND() LIMIT 1", nativeQuery = true)
-    Optional<Sentence> findRandomSentence();
+    // 문장 풀 증분 갱신용 (id 워터마크 이후 문장을 id 순으로)
+    List<Sentence> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
 }
@@ -3,13 +3,60 @@ package com.kibaeon.backend.sentence;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class SentenceService {
+    private final SentencePool sentencePool;
     private final SentenceRepository sentenceRepository;
 
     // 랜덤 문장 하나 가져오기
     public Sentence getRandomSentence() {
-        return sentenceRepository.findRandomSentence().orElseThrow(() -> new RuntimeException("문장이 존재하지 않아요."));
+        return getRandomSentence(null);
+    }
+
+    // 카테고리 안에서 랜덤 문장 하나 가져오기 (category가 null이면 전체)
+    public Sentence getRandomSentence(String category) {
+        if (sentencePool.size() == 0) {
+            // 아직 풀을 못 채운 경우 (서버 시작 직후)
+            sentencePool.refresh();
+        }
+
+        Sentence sentence = sentencePool.pick(category);
+        if (sentence == null) {
+            throw new RuntimeException("문장이 존재하지 않아요.");
+        }
+        return sentence;
+    }
+
+    // 여러 라운드용 덱 (라운드마다 다른 문장, 시드가 같으면 같은 순서)
+    // 풀에서 바로 섞기 때문에 여러 방이 동시에 시작해도 DB를 읽지 않음
+    public List<Long> createDeck(String category, int rounds, long seed) {
+        if (sentencePool.size() == 0) {
+            sentencePool.refresh();
+        }
+
+        long[] ids = sentencePool.deal(category, rounds, seed);
+        if (ids.length == 0) {
+            throw new RuntimeException("문장이 존재하지 않아요.");
+        }
+
+        List<Long> deck = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            deck.add(id);
+        }
+        return deck;
+    }
+
+    // 덱에 들어있는 문장 가져오기 (풀에 없으면, 예를 들어 전체 갱신으로 빠졌으면 DB에서)
+    public Sentence getSentence(Long id) {
+        Sentence sentence = sentencePool.findById(id);
+        if (sentence != null) {
+            return sentence;
+        }
+        return sentenceRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("문장이 존재하지 않아요."));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,28 @@
+package com.kibaeon.backend.stats;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// DB에 반영한 전적 배치 기록 (같은 배치를 두 번 반영하지 않기 위한 테이블)
+// 쓰기는 StatsJdbcWriter에서 JDBC로 하고, 엔티티는 테이블 생성용
+// 배치는 반영 직후 Redis에서 지워지므로 오래된 기록은 StatsWriteBehind가 주기적으로 삭제
+@Entity
+@Table(name = "stats_applied_batches", indexes = {
+        @Index(name = "idx_stats_applied_batches_applied_at", columnList = "applied_at")
+})
+@Getter
+@NoArgsConstructor
+public class AppliedStatsBatch {
+    @Id
+    private Long batchId;
+
+    @Column(nullable = false)
+    private LocalDateTime appliedAt;
+}
@@ -0,0 +1,17 @@
+package com.kibaeon.backend.stats;
+
+// 아직 DB에 반영하지 않은 유저 한 명의 전적 변화량
+record StatsDelta(
+        long userId,
+        int games,
+        int wins,
+        long wpmSum,    // 평균 WPM 갱신용 합계
+        int maxWpm
+) {
+    // "games,wins,wpmSum,maxWpm"
+    static StatsDelta parse(long userId, String value) {
+        String[] parts = value.split(",");
+        return new StatsDelta(userId, Integer.parseInt(parts[0]), Integer.parseInt(parts[1]),
+                Long.parseLong(parts[2]), Integer.parseInt(parts[3]));
+    }
+}
@@ -0,0 +1,63 @@
+package com.kibaeon.backend.stats;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 전적 배치를 JDBC batch UPDATE 한 번으로 반영
+@Repository
+@RequiredArgsConstructor
+public class StatsJdbcWriter {
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final int PRUNE_CHUNK_SIZE = 10_000;
+
+    // 평균은 기존 평균과 판 수로 갱신 (MySQL은 SET을 왼쪽부터 적용하므로 average_wpm을 total_games보다 먼저)
+    private static final String UPDATE_SQL =
+            "UPDATE users SET " +
+            "average_wpm = (average_wpm * total_games + ?) / (total_games + ?), " +
+            "total_games = total_games + ?, " +
+            "win_count = win_count + ?, " +
+            "max_wpm = GREATEST(max_wpm, ?) " +
+            "WHERE id = ?";
+
+    // 배치 기록과 전적 갱신을 한 트랜잭션으로
+    // 이미 반영한 배치면 (다른 서버가 먼저 다시 반영했거나 정리 직전에 죽은 경우) false
+    @Transactional
+    public boolean apply(long batchId, List<StatsDelta> deltas) {
+        try {
+            jdbcTemplate.update("INSERT INTO stats_applied_batches (batch_id, applied_at) VALUES (?, ?)",
+                    batchId, Timestamp.valueOf(LocalDateTime.now()));
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+
+        jdbcTemplate.batchUpdate(UPDATE_SQL, deltas, deltas.size(), (statement, delta) -> {
+            statement.setLong(1, delta.wpmSum());
+            statement.setInt(2, delta.games());
+            statement.setInt(3, delta.games());
+            statement.setInt(4, delta.wins());
+            statement.setInt(5, delta.maxWpm());
+            statement.setLong(6, delta.userId());
+        });
+        return true;
+    }
+
+    // cutoff 이전에 반영한 배치 기록 삭제 (락을 오래 잡지 않도록 나눠서), 지운 개수 반환
+    public int pruneAppliedBefore(LocalDateTime cutoff) {
+        int pruned = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update("DELETE FROM stats_applied_batches WHERE applied_at < ? LIMIT " + PRUNE_CHUNK_SIZE,
+                    Timestamp.valueOf(cutoff));
+            pruned += deleted;
+        } while (deleted == PRUNE_CHUNK_SIZE);
+        return pruned;
+    }
+}
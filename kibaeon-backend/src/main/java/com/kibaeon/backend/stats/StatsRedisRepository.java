@@ -0,0 +1,104 @@
+package com.kibaeon.backend.stats;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 전적 쓰기 지연(write-behind) 대기열
+//   stats:delta:{userId}     HASH  미반영 변화량 (games, wins, wpmSum, maxWpm)
+//   stats:dirty              SET   변화량이 있는 userId
+//   stats:batch:{batchId}    HASH  DB 반영 중인 배치 userId -> "games,wins,wpmSum,maxWpm"
+//   stats:batches            SET   아직 반영이 끝나지 않은 batchId
+@Repository
+@RequiredArgsConstructor
+public class StatsRedisRepository {
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private static final String DELTA_KEY_PREFIX = "stats:delta:";
+    private static final String DIRTY_KEY = "stats:dirty";
+    private static final String BATCH_KEY_PREFIX = "stats:batch:";
+    private static final String BATCH_SEQUENCE_KEY = "stats:batch:seq";
+    private static final String BATCHES_KEY = "stats:batches";
+
+    private static final RedisScript<Long> RECORD_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/stats/record.lua"), Long.class);
+    private static final RedisScript<List> CLAIM_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/stats/claim.lua"), List.class);
+
+    // 결과 한 건 누적, 반영 대기 중인 유저 수 반환
+    public long record(long userId, int wpm, boolean won) {
+        Long pending = redisTemplate.execute(RECORD_SCRIPT, List.of(DELTA_KEY_PREFIX + userId, DIRTY_KEY),
+                String.valueOf(userId), String.valueOf(wpm), won ? "1" : "0");
+        return pending != null ? pending : 0;
+    }
+
+    // 최대 maxUsers명을 배치로 묶고 batchId 반환 (대기 중인 유저가 없으면 null)
+    // 유저를 고르는 것은 지우지 않는 SRANDMEMBER라, 스크립트 전에 서버가 죽어도 대기 중인 유저가 사라지지 않음
+    // 스크립트가 만지는 키는 모두 KEYS로 넘김 (배치 키에 batchId가 들어가므로 INCR을 먼저 함)
+    public Long claim(int maxUsers) {
+        List<Object> userIds = redisTemplate.opsForSet().distinctRandomMembers(DIRTY_KEY, maxUsers)
+                .stream().toList();
+        if (userIds.isEmpty()) {
+            return null;
+        }
+        Long batchId = redisTemplate.opsForValue().increment(BATCH_SEQUENCE_KEY);
+
+        List<String> keys = new ArrayList<>(userIds.size() + 3);
+        keys.add(DIRTY_KEY);
+        keys.add(BATCHES_KEY);
+        keys.add(BATCH_KEY_PREFIX + batchId);
+        List<String> args = new ArrayList<>(userIds.size() + 1);
+        args.add(String.valueOf(batchId));
+        for (Object userId : userIds) {
+            keys.add(DELTA_KEY_PREFIX + userId);
+            args.add((String) userId);
+        }
+
+        List<?> result = redisTemplate.execute(CLAIM_SCRIPT, keys, args.toArray());
+        return result == null || result.isEmpty() ? null : batchId;
+    }
+
+    public List<StatsDelta> loadBatch(long batchId) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(BATCH_KEY_PREFIX + batchId);
+
+        List<StatsDelta> deltas = new ArrayList<>(entries.size());
+        entries.forEach((userId, value) ->
+                deltas.add(StatsDelta.parse(Long.parseLong((String) userId), (String) value)));
+        return deltas;
+    }
+
+    // DB 반영이 끝난 배치 정리
+    public void complete(long batchId) {
+        redisTemplate.delete(BATCH_KEY_PREFIX + batchId);
+        redisTemplate.opsForSet().remove(BATCHES_KEY, String.valueOf(batchId));
+    }
+
+    // 반영이 끝나지 않은 배치 (서버가 반영 도중 죽었거나 DB 오류로 실패한 배치)
+    public List<Long> unfinishedBatches() {
+        Set<Object> members = redisTemplate.opsForSet().members(BATCHES_KEY);
+
+        List<Long> batchIds = new ArrayList<>();
+        if (members != null) {
+            members.forEach(member -> batchIds.add(Long.valueOf((String) member)));
+        }
+        batchIds.sort(null);
+        return batchIds;
+    }
+
+    public long pendingUsers() {
+        Long size = redisTemplate.opsForSet().size(DIRTY_KEY);
+        return size != null ? size : 0;
+    }
+
+    public long unfinishedBatchCount() {
+        Long size = redisTemplate.opsForSet().size(BATCHES_KEY);
+        return size != null ? size : 0;
+    }
+}
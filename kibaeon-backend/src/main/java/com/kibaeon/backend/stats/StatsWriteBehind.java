@@ -0,0 +1,149 @@
+package com.kibaeon.backend.stats;
+
+import com.kibaeon.backend.game.GameFinishedEvent;
+import com.kibaeon.backend.game.dto.GameResult;
+import com.kibaeon.backend.leaderboard.LeaderboardService;
+import com.kibaeon.backend.user.UserRepository;
+import com.kibaeon.backend.user.UserService;
+import com.kibaeon.backend.user.UserSummary;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 게임 결과를 유저 전적에 쓰기 지연(write-behind)으로 반영
+// 게임이 끝나면 Redis에 변화량만 더해두고, 대기 인원이 batch-size를 넘거나 interval-ms가 지나면
+// 배치로 묶어서 JDBC batch UPDATE 한 번으로 반영 (플레이어마다 UPDATE 하지 않음)
+// 반영 도중 서버가 죽어도 배치가 Redis에 남아 있어서 다음 반영 때 다시 시도하고, 배치 기록 테이블로 중복 반영을 막음
+@Component
+@RequiredArgsConstructor
+public class StatsWriteBehind {
+    private final StatsRedisRepository statsRepository;
+    private final StatsJdbcWriter statsWriter;
+    private final UserRepository userRepository;
+    private final UserService userService;
+    private final LeaderboardService leaderboardService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${stats.flush.batch-size:500}")
+    private int batchSize;
+
+    // 반영한 배치 기록 보관 기간 (Redis에 남은 배치를 다시 반영할 때 중복 확인에만 쓰임)
+    @Value("${stats.applied-batches.retention-days:7}")
+    private int appliedBatchRetentionDays;
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private Timer flushTimer;
+    private Counter flushedUsers;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("stats.pending.users", statsRepository, StatsRedisRepository::pendingUsers)
+                .description("DB 반영을 기다리는 유저 수")
+                .register(meterRegistry);
+        Gauge.builder("stats.unfinished.batches", statsRepository, StatsRedisRepository::unfinishedBatchCount)
+                .description("반영이 끝나지 않은 배치 수")
+                .register(meterRegistry);
+        flushTimer = Timer.builder("stats.flush.latency")
+                .description("배치 하나를 DB에 반영하는 데 걸린 시간")
+                .register(meterRegistry);
+        flushedUsers = Counter.builder("stats.flushed.users")
+                .register(meterRegistry);
+    }
+
+    // 레이스 틱 스레드를 막지 않도록 비동기로 처리
+    @Async
+    @EventListener
+    public void onGameFinished(GameFinishedEvent event) {
+        boolean multiplayer = event.results().size() > 1;
+
+        long pending = 0;
+        for (GameResult result : event.results()) {
+            boolean won = multiplayer && result.rank() == 1 && result.finished();
+            pending = statsRepository.record(Long.parseLong(result.userId()), result.wpm(), won);
+        }
+
+        if (pending >= batchSize) {
+            flush();
+        }
+    }
+
+    // 서버 시작 시 이전에 반영하다 만 배치부터 처리
+    @EventListener(ApplicationReadyEvent.class)
+    public void replay() {
+        flush();
+    }
+
+    @Scheduled(fixedDelayString = "${stats.flush.interval-ms:5000}")
+    public void flush() {
+        // 이미 이 서버에서 반영 중이면 그쪽에서 같이 처리됨
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            for (Long batchId : statsRepository.unfinishedBatches()) {
+                applyBatch(batchId);
+            }
+
+            Long batchId;
+            while ((batchId = statsRepository.claim(batchSize)) != null) {
+                applyBatch(batchId);
+            }
+        } catch (Exception e) {
+            // 실패한 배치는 stats:batches에 남아 있어서 다음 반영 때 다시 시도
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 오래된 배치 기록 정리 (기본: 매일 새벽 4시 30분, 여러 서버가 같이 돌아도 결과는 같음)
+    @Scheduled(cron = "${stats.applied-batches.prune-cron:0 30 4 * * *}")
+    public int pruneAppliedBatches() {
+        return statsWriter.pruneAppliedBefore(LocalDateTime.now().minusDays(appliedBatchRetentionDays));
+    }
+
+    private void applyBatch(long batchId) {
+        List<StatsDelta> deltas = statsRepository.loadBatch(batchId);
+        if (deltas.isEmpty()) {
+            statsRepository.complete(batchId);
+            return;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean applied = statsWriter.apply(batchId, deltas);
+        sample.stop(flushTimer);
+
+        statsRepository.complete(batchId);
+        if (!applied) {
+            return;
+        }
+
+        flushedUsers.increment(deltas.size());
+        refreshUsers(deltas);
+    }
+
+    // 반영된 전적으로 캐시와 랭킹 갱신 (IN 쿼리 한 번)
+    private void refreshUsers(List<StatsDelta> deltas) {
+        List<Long> userIds = new ArrayList<>(deltas.size());
+        for (StatsDelta delta : deltas) {
+            userIds.add(delta.userId());
+            userService.evictSummary(delta.userId());
+        }
+
+        List<UserSummary> users = userRepository.findSummariesByIdIn(userIds);
+        leaderboardService.updateAll(users);
+    }
+}
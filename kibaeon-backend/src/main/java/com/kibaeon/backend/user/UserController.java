@@ -13,6 +13,8 @@ import org.springframework.security.core.Authentication;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 @Validated
@@ -56,4 +58,12 @@ public class UserController {
 
         return ResponseEntity.ok(response);
     }
+
+    // 여러 유저 요약 정보 한 번에 (GET /users?ids=1,2,3)
+    @GetMapping("/users")
+    public ResponseEntity<List<UserSummaryInfoResponse>> getUsersByIds(@RequestParam List<Long> ids) {
+        List<UserSummaryInfoResponse> response = userService.getUserSummaryInfos(ids);
+
+        return ResponseEntity.ok(response);
+    }
 }
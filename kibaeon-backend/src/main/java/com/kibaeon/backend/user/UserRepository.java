@@ -1,7 +1,12 @@
 package com.kibaeon.backend.user;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -9,4 +14,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByNickname(String nickname);
 
     Optional<User> findByEmail(String email);
+
+    // 여러 유저 요약 정보를 쿼리 한 번으로 (email, password 컬럼은 읽지 않음)
+    @Query("select new com.kibaeon.backend.user.UserSummary(u.id, u.nickname, u.characterType, u.totalGames, u.winCount, u.maxWpm, u.averageWpm) " +
+            "from User u where u.id in :ids")
+    List<UserSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // id 순으로 lastId 이후 유저 요약 정보 (랭킹 재구축 시 청크 단위로 읽기)
+    @Query("select new com.kibaeon.backend.user.UserSummary(u.id, u.nickname, u.characterType, u.totalGames, u.winCount, u.maxWpm, u.averageWpm) " +
+            "from User u where u.id > :lastId order by u.id")
+    List<UserSummary> findSummariesAfter(@Param("lastId") Long lastId, Limit limit);
 }
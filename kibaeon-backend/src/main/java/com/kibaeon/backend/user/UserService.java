@@ -1,5 +1,7 @@
 package com.kibaeon.backend.user;
 
+import com.kibaeon.backend.match.MatchService;
+import com.kibaeon.backend.match.dto.RecentForm;
 import com.kibaeon.backend.user.dto.LoginRequest;
 import com.kibaeon.backend.user.dto.RegisterRequest;
 import com.kibaeon.backend.user.dto.UserSummaryInfoResponse;
@@ -7,11 +9,18 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserSummaryCache userSummaryCache;
+    private final MatchService matchService;
+    private static final int MAX_BATCH_SIZE = 50;
 
     public void register(RegisterRequest request) {
         if (userRepository.existsByEmail(request.getEmail())) {
@@ -48,6 +57,16 @@ public class UserService {
         return userRepository.findById(userId).orElseThrow(() -> new RuntimeException("유저를 찾을 수 없어요."));
     }
 
+    // 닉네임, 캐릭터, 전적만 필요한 경우 (캐시에서 읽고 없을 때만 DB 조회)
+    public UserSummary getSummary(long userId) {
+        return userSummaryCache.get(userId, id -> UserSummary.from(findById(id)));
+    }
+
+    // 프로필이나 전적이 바뀐 뒤 호출
+    public void evictSummary(long userId) {
+        userSummaryCache.evict(userId);
+    }
+
     public boolean isEmailDuplicated(String email) {
         return userRepository.existsByEmail(email);
     }
@@ -57,16 +76,41 @@ public class UserService {
         return winCount / totalCount;
     }
     public UserSummaryInfoResponse getUserSummaryInfo(Long userId) {
-        User user = userRepository.findById(userId).orElseThrow(() -> new IllegalArgumentException("존재하지 않는 유저예요."));
-
-        UserSummaryInfoResponse userSummaryInfoResponse = UserSummaryInfoResponse.builder()
-                .nickname(user.getNickname())
-                .totalGames(user.getTotalGames())
-                .winCount(user.getWinCount())
-                .winRate(calculateWinRate(user.getWinCount(), user.getTotalGames()))
-                .characterType(user.getCharacterType())
-                .build();
+        UserSummary user = userSummaryCache.get(userId, id -> UserSummary.from(
+                userRepository.findById(id).orElseThrow(() -> new IllegalArgumentException("존재하지 않는 유저예요."))));
+
+        return toSummaryInfo(user, matchService.getRecentForm(userId));
+    }
 
-        return userSummaryInfoResponse;
+    // 여러 유저 요약 정보 (방 화면처럼 여러 명을 한 번에 보여줄 때)
+    // 캐시에 없는 유저만 IN 쿼리 한 번으로 읽고, 요청한 순서대로 반환 (없는 유저는 빠짐)
+    public List<UserSummaryInfoResponse> getUserSummaryInfos(List<Long> userIds) {
+        if (userIds.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_BATCH_SIZE + "명까지 조회할 수 있어요.");
+        }
+
+        Map<Long, UserSummary> summaries = userSummaryCache.getAll(userIds, userRepository::findSummariesByIdIn);
+        Map<Long, RecentForm> recentForms = matchService.getRecentForms(new ArrayList<>(summaries.keySet()));
+
+        List<UserSummaryInfoResponse> responses = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            UserSummary user = summaries.get(userId);
+            if (user != null) {
+                responses.add(toSummaryInfo(user, recentForms.getOrDefault(userId, RecentForm.EMPTY)));
+            }
+        }
+        return responses;
+    }
+
+    private UserSummaryInfoResponse toSummaryInfo(UserSummary user, RecentForm recentForm) {
+        return UserSummaryInfoResponse.builder()
+                .userId(user.id())
+                .nickname(user.nickname())
+                .totalGames(user.totalGames())
+                .winCount(user.winCount())
+                .winRate(calculateWinRate(user.winCount(), user.totalGames()))
+                .characterType(user.characterType())
+                .recentForm(recentForm)
+                .build();
     }
 }
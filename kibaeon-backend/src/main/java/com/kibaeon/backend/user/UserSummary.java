@@ -0,0 +1,25 @@
+package com.kibaeon.backend.user;
+
+// 방 입장/프로필 조회에 필요한 유저 정보만 (이메일, 비밀번호 제외)
+// 캐시에 그대로 들고 있는 값이라 불변
+public record UserSummary(
+        Long id,
+        String nickname,
+        CharacterType characterType,
+        Integer totalGames,
+        Integer winCount,
+        Integer maxWpm,
+        Double averageWpm
+) {
+    public static UserSummary from(User user) {
+        return new UserSummary(
+                user.getId(),
+                user.getNickname(),
+                user.getCharacterType(),
+                user.getTotalGames(),
+                user.getWinCount(),
+                user.getMaxWpm(),
+                user.getAverageWpm()
+        );
+    }
+}
@@ -0,0 +1,255 @@
+package com.kibaeon.backend.user;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+// 유저 요약 정보 캐시
+// 1단계: 서버 메모리 (TTL, 최대 개수 제한)
+// 2단계: Redis 해시 user:summary:{userId} (여러 서버가 같이 씀, 끌 수 있음)
+// 둘 다 없을 때만 DB 조회, 정보가 바뀌면 evict로 Redis를 지우고 다른 서버에도 무효화 메시지를 보냄
+// evict는 user:summary:version:{userId}도 올려서, evict 전에 DB를 읽은 요청이 낡은 값을 Redis에 다시 쓰지 못하게 함
+@Component
+@RequiredArgsConstructor
+public class UserSummaryCache implements MessageListener {
+    public static final String INVALIDATE_CHANNEL = "user:summary:invalidate";
+    private static final String SUMMARY_KEY_PREFIX = "user:summary:";
+    private static final String VERSION_KEY_PREFIX = "user:summary:version:";
+    private static final RedisScript<Long> WRITE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/user/write-summary.lua"), Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    // 접근 순서 LinkedHashMap, 가득 차면 가장 오래 안 쓴 유저 하나만 밀려남
+    private final Map<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+            return size() > maxSize;
+        }
+    };
+    private final ReentrantLock entriesLock = new ReentrantLock();
+
+    @Value("${user.cache.ttl-ms:60000}")
+    private long ttlMillis;
+    @Value("${user.cache.max-size:10000}")
+    private int maxSize;
+    @Value("${user.cache.redis-enabled:true}")
+    private boolean redisEnabled;
+    @Value("${user.cache.redis-ttl-ms:600000}")
+    private long redisTtlMillis;
+
+    // 캐시에서 찾고 없으면 loader(DB)로 읽어서 채움
+    public UserSummary get(long userId, LongFunction<UserSummary> loader) {
+        long now = System.currentTimeMillis();
+
+        UserSummary cached = getLocal(userId, now);
+        if (cached != null) {
+            return cached;
+        }
+
+        if (!redisEnabled) {
+            UserSummary summary = loader.apply(userId);
+            putLocal(userId, summary, now);
+            return summary;
+        }
+
+        // 해시와 버전을 한 번에 읽고, 해시가 없으면 DB에서 읽어 그 버전 기준으로 저장
+        List<Object> shared = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public Object execute(RedisOperations operations) {
+                operations.opsForHash().entries(SUMMARY_KEY_PREFIX + userId);
+                operations.opsForValue().get(VERSION_KEY_PREFIX + userId);
+                return null;
+            }
+        });
+        UserSummary summary = toSummaryOrNull(userId, shared.get(0));
+        if (summary == null) {
+            summary = loader.apply(userId);
+            writeShared(summary, shared.get(1));
+        }
+
+        putLocal(userId, summary, now);
+        return summary;
+    }
+
+    // 여러 명을 한 번에 (메모리 -> Redis 파이프라인 한 번 -> 남은 id만 loader 한 번)
+    // 결과는 찾은 유저만 userId -> 요약 정보
+    public Map<Long, UserSummary> getAll(Collection<Long> userIds, Function<List<Long>, List<UserSummary>> loader) {
+        long now = System.currentTimeMillis();
+        Map<Long, UserSummary> found = new LinkedHashMap<>();
+        List<Long> misses = new ArrayList<>();
+
+        for (Long userId : userIds) {
+            UserSummary cached = getLocal(userId, now);
+            if (cached != null) {
+                found.put(userId, cached);
+            } else if (!found.containsKey(userId) && !misses.contains(userId)) {
+                misses.add(userId);
+            }
+        }
+        if (misses.isEmpty()) {
+            return found;
+        }
+
+        // DB에서 읽게 될 유저의, 읽기 전 버전
+        Map<Long, Object> versions = new HashMap<>();
+        if (redisEnabled) {
+            List<Object> shared = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                public Object execute(RedisOperations operations) {
+                    for (Long userId : misses) {
+                        operations.opsForHash().entries(SUMMARY_KEY_PREFIX + userId);
+                        operations.opsForValue().get(VERSION_KEY_PREFIX + userId);
+                    }
+                    return null;
+                }
+            });
+
+            List<Long> stillMissing = new ArrayList<>();
+            for (int i = 0; i < misses.size(); i++) {
+                Long userId = misses.get(i);
+                UserSummary summary = toSummaryOrNull(userId, shared.get(i * 2));
+                if (summary == null) {
+                    stillMissing.add(userId);
+                    versions.put(userId, shared.get(i * 2 + 1));
+                } else {
+                    found.put(userId, summary);
+                    putLocal(userId, summary, now);
+                }
+            }
+            misses.clear();
+            misses.addAll(stillMissing);
+        }
+
+        if (!misses.isEmpty()) {
+            for (UserSummary summary : loader.apply(misses)) {
+                if (redisEnabled) {
+                    writeShared(summary, versions.get(summary.id()));
+                }
+                found.put(summary.id(), summary);
+                putLocal(summary.id(), summary, now);
+            }
+        }
+        return found;
+    }
+
+    // 프로필/전적이 바뀌었을 때 호출 (모든 서버의 메모리 캐시까지 무효화)
+    public void evict(long userId) {
+        removeLocal(userId);
+        if (redisEnabled) {
+            // 버전을 먼저 올려서, 지우기 전에 DB를 읽은 요청이 다시 써넣지 못하게 함
+            String versionKey = VERSION_KEY_PREFIX + userId;
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                public Object execute(RedisOperations operations) {
+                    operations.opsForValue().increment(versionKey);
+                    operations.expire(versionKey, Duration.ofMillis(redisTtlMillis));
+                    operations.delete(SUMMARY_KEY_PREFIX + userId);
+                    return null;
+                }
+            });
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, String.valueOf(userId));
+        }
+    }
+
+    // 다른 서버에서 보낸 무효화 메시지
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            removeLocal(Long.parseLong(body));
+        } catch (NumberFormatException e) {
+            // 잘못된 메시지는 무시
+        }
+    }
+
+    private UserSummary getLocal(long userId, long now) {
+        entriesLock.lock();
+        try {
+            Entry entry = entries.get(userId);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt() <= now) {
+                entries.remove(userId);
+                return null;
+            }
+            return entry.summary();
+        } finally {
+            entriesLock.unlock();
+        }
+    }
+
+    private void putLocal(long userId, UserSummary summary, long now) {
+        entriesLock.lock();
+        try {
+            entries.put(userId, new Entry(summary, now + ttlMillis));
+        } finally {
+            entriesLock.unlock();
+        }
+    }
+
+    private void removeLocal(long userId) {
+        entriesLock.lock();
+        try {
+            entries.remove(userId);
+        } finally {
+            entriesLock.unlock();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private UserSummary toSummaryOrNull(long userId, Object hash) {
+        Map<Object, Object> fields = (Map<Object, Object>) hash;
+        return fields == null || fields.isEmpty() ? null : toSummary(userId, fields);
+    }
+
+    private UserSummary toSummary(long userId, Map<Object, Object> fields) {
+        return new UserSummary(
+                userId,
+                (String) fields.get("nickname"),
+                CharacterType.valueOf((String) fields.get("characterType")),
+                Integer.valueOf((String) fields.get("totalGames")),
+                Integer.valueOf((String) fields.get("winCount")),
+                Integer.valueOf((String) fields.get("maxWpm")),
+                Double.valueOf((String) fields.get("averageWpm"))
+        );
+    }
+
+    // 해시 저장과 TTL 설정을 스크립트 하나로 (TTL 없는 해시가 남지 않도록)
+    // version: DB를 읽기 전에 본 버전 (없었으면 null)
+    private void writeShared(UserSummary summary, Object version) {
+        List<String> keys = List.of(SUMMARY_KEY_PREFIX + summary.id(), VERSION_KEY_PREFIX + summary.id());
+        redisTemplate.execute(WRITE_SCRIPT, keys,
+                version != null ? String.valueOf(version) : "",
+                String.valueOf(redisTtlMillis),
+                "nickname", summary.nickname(),
+                "characterType", summary.characterType().name(),
+                "totalGames", String.valueOf(summary.totalGames()),
+                "winCount", String.valueOf(summary.winCount()),
+                "maxWpm", String.valueOf(summary.maxWpm()),
+                "averageWpm", String.valueOf(summary.averageWpm()));
+    }
+
+    private record Entry(UserSummary summary, long expiresAt) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.kibaeon.backend.user.dto;
 
+import com.kibaeon.backend.match.dto.RecentForm;
 import com.kibaeon.backend.user.CharacterType;
 import lombok.Builder;
 import lombok.Getter;
@@ -7,9 +8,11 @@ import lombok.Getter;
 @Getter
 @Builder
 public class UserSummaryInfoResponse {
+    private Long userId;
     private String nickname;
     private Integer totalGames;
     private Integer winCount;
     private Double winRate;
     private CharacterType characterType;
+    private RecentForm recentForm;   // 최근 몇 판의 등수/WPM (최신순)
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+-- 재구축한 임시 키로 랭킹 교체 (락이 아직 내 것일 때만)
+-- 락이 만료돼 다른 서버가 재구축 중이면 임시 키만 지우고 0 반환
+-- KEYS[1] = leaderboard:rebuild:lock, KEYS[2..n+1] = 임시 키, KEYS[n+2..2n+1] = 랭킹 키
+-- ARGV[1] = 락 토큰
+local n = (#KEYS - 1) / 2
+if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+    for i = 2, n + 1 do
+        redis.call('DEL', KEYS[i])
+    end
+    return 0
+end
+
+for i = 2, n + 1 do
+    local live = KEYS[i + n]
+    if redis.call('EXISTS', KEYS[i]) == 1 then
+        redis.call('RENAME', KEYS[i], live)
+        -- 임시 키에 걸어둔 만료 시간이 따라오므로 제거
+        redis.call('PERSIST', live)
+    else
+        -- 유저가 한 명도 없으면 빈 랭킹
+        redis.call('DEL', live)
+    end
+end
+return 1
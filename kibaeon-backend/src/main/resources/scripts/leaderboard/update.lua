@@ -0,0 +1,13 @@
+-- 유저 한 명의 랭킹 점수 갱신
+-- 재구축 중이면 (락이 있으면) 재구축이 끝난 뒤 DB에서 다시 읽어 반영하도록 dirty에도 기록
+-- KEYS[1..n] = 랭킹 키, KEYS[n+1] = leaderboard:rebuild:lock, KEYS[n+2] = leaderboard:rebuild:dirty
+-- ARGV[1] = userId, ARGV[2..n+1] = 랭킹 키 순서대로 점수
+local n = #KEYS - 2
+for i = 1, n do
+    redis.call('ZADD', KEYS[i], ARGV[i + 1], ARGV[1])
+end
+
+if redis.call('EXISTS', KEYS[n + 1]) == 1 then
+    redis.call('SADD', KEYS[n + 2], ARGV[1])
+end
+return 1
@@ -0,0 +1,8 @@
+-- 로비 변경 기록 추가: 버전을 하나 올리고 "버전|타입|roomId"를 버전 점수로 저장, 오래된 기록은 잘라냄
+-- KEYS[1] = lobby:version, KEYS[2] = lobby:changes
+-- ARGV[1] = 타입, ARGV[2] = roomId, ARGV[3] = 보관할 최대 개수
+local version = redis.call('INCR', KEYS[1])
+redis.call('ZADD', KEYS[2], version, version .. '|' .. ARGV[1] .. '|' .. ARGV[2])
+redis.call('ZREMRANGEBYRANK', KEYS[2], 0, -(tonumber(ARGV[3]) + 1))
+
+return version
@@ -0,0 +1,7 @@
+-- 경기 기록 정리 락 해제 (내 토큰일 때만, 만료 뒤 다른 서버가 잡은 락은 건드리지 않음)
+-- KEYS[1] = match:rollup:lock
+-- ARGV[1] = 락 토큰
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
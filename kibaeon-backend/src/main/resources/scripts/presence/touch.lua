@@ -0,0 +1,18 @@
+-- 접속 중 표시 갱신 (슬라이딩 TTL)
+-- 유저가 방에 있으면 매핑과 방 키들의 TTL도 같이 연장해서, 아무도 찾지 않는 방은 결국 사라짐
+-- 방 키는 호출 전에 읽은 매핑으로 만들어 KEYS로 넘기고, 그 사이 매핑이 바뀌었으면 접속 표시만 갱신
+-- KEYS[1] = presence:{userId}, KEYS[2] = user:room:{userId}
+-- KEYS[3..7] = room:{roomId}, :players, :nicknames, :ready, :characters (방에 없으면 생략)
+-- ARGV[1] = 접속 TTL(초), ARGV[2] = 방 TTL(초), ARGV[3] = 읽었던 roomId
+redis.call('SET', KEYS[1], '1', 'EX', tonumber(ARGV[1]))
+
+if #KEYS < 7 or redis.call('GET', KEYS[2]) ~= ARGV[3] then
+    return 0
+end
+
+local ttl = tonumber(ARGV[2])
+for i = 2, 7 do
+    redis.call('EXPIRE', KEYS[i], ttl)
+end
+
+return 1
@@ -0,0 +1,13 @@
+-- 게임 시작 되돌리기: 시작 직후 레이스를 못 띄웠을 때 PLAYING -> WAITING (준비 상태는 그대로 둠)
+-- 그 사이 다른 시작으로 바뀐 방은 건드리지 않도록 startedAt이 같을 때만
+-- KEYS[1] = room:{roomId}
+-- ARGV[1] = 되돌릴 시작의 startedAt
+local room = redis.call('HMGET', KEYS[1], 'status', 'startedAt')
+if room[1] ~= 'PLAYING' or room[2] ~= ARGV[1] then
+    return {'OK'}
+end
+
+redis.call('HSET', KEYS[1], 'status', 'WAITING', 'round', '0')
+redis.call('HDEL', KEYS[1], 'startedAt', 'deck', 'deckSeed')
+
+return {'OK'}
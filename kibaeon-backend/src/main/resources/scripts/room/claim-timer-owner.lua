@@ -0,0 +1,12 @@
+-- 방 타이머 주인 서버: 비어 있으면 요청한 서버가 맡고, 이미 주인이면 기한만 연장, 주인 서버 id 반환
+-- KEYS[1] = room:{roomId}:timer-owner
+-- ARGV[1] = 요청한 서버 id, ARGV[2] = 기한 (ms)
+local owner = redis.call('GET', KEYS[1])
+if not owner then
+    redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+    return ARGV[1]
+end
+if owner == ARGV[1] then
+    redis.call('PEXPIRE', KEYS[1], ARGV[2])
+end
+return owner
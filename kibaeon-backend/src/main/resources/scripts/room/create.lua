@@ -0,0 +1,22 @@
+-- 방 생성: 중복 입장 확인, 방 저장, 유저 -> 방 매핑, 로비 인덱스 등록을 한 번에 처리
+-- KEYS[1] = room:{roomId}, KEYS[2] = :players, KEYS[3] = :nicknames, KEYS[4] = :ready, KEYS[5] = :characters
+-- KEYS[6] = user:room:{hostId}, KEYS[7] = lobby:rooms, KEYS[8] = lobby:rooms:seq
+-- ARGV[1] = roomId, ARGV[2] = hostId, ARGV[3] = 방장 닉네임, ARGV[4] = 방장 캐릭터, ARGV[5..] = 방 필드 (field, value 반복)
+if redis.call('EXISTS', KEYS[6]) == 1 then
+    return {'ALREADY_IN_ROOM'}
+end
+
+local time = redis.call('TIME')
+local now = tostring(time[1] * 1000 + math.floor(time[2] / 1000))
+local hostId = ARGV[2]
+redis.call('HSET', KEYS[1], unpack(ARGV, 5))
+redis.call('RPUSH', KEYS[2], hostId)
+redis.call('HSET', KEYS[3], hostId, ARGV[3])
+redis.call('HSET', KEYS[4], hostId, now)
+redis.call('HSET', KEYS[5], hostId, ARGV[4])
+redis.call('SET', KEYS[6], ARGV[1])
+
+local sequence = redis.call('INCR', KEYS[8])
+redis.call('ZADD', KEYS[7], sequence, ARGV[1])
+
+return {'OK'}
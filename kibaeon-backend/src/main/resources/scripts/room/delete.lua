@@ -0,0 +1,33 @@
+-- 방 삭제: 방장 확인 후 방, 모든 플레이어의 유저 -> 방 매핑, 로비 인덱스를 한 번에 정리
+-- 매핑 키는 호출 전에 읽은 플레이어 목록으로 만들어 KEYS로 넘기고, 그 사이 목록이 바뀌었으면 ROOM_CHANGED (다시 읽고 재시도)
+-- KEYS[1] = room:{roomId}, KEYS[2] = :players, KEYS[3] = :nicknames, KEYS[4] = :ready, KEYS[5] = :characters
+-- KEYS[6] = lobby:rooms, KEYS[7..] = 플레이어별 user:room:{userId}
+-- ARGV[1] = roomId, ARGV[2] = 요청한 userId, ARGV[3..] = 읽었던 플레이어 목록 (KEYS[7..]과 같은 순서)
+local hostId = redis.call('HGET', KEYS[1], 'hostId')
+if not hostId then
+    return {'ROOM_NOT_FOUND'}
+end
+if hostId ~= ARGV[2] then
+    return {'NOT_HOST'}
+end
+
+local players = redis.call('LRANGE', KEYS[2], 0, -1)
+if #players ~= #ARGV - 2 then
+    return {'ROOM_CHANGED'}
+end
+for i, playerId in ipairs(players) do
+    if playerId ~= ARGV[i + 2] then
+        return {'ROOM_CHANGED'}
+    end
+end
+
+for i = 7, #KEYS do
+    if redis.call('GET', KEYS[i]) == ARGV[1] then
+        redis.call('DEL', KEYS[i])
+    end
+end
+
+redis.call('DEL', KEYS[1], KEYS[2], KEYS[3], KEYS[4], KEYS[5])
+redis.call('ZREM', KEYS[6], ARGV[1])
+
+return {'OK'}
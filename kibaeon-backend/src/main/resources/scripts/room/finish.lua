@@ -0,0 +1,32 @@
+-- 라운드 종료
+-- 남은 라운드가 있고 2명 이상 남아있으면 라운드를 넘기고 {'NEXT', 다음 라운드, 문장 id, 플레이어} 반환
+-- 마지막 라운드면 상태를 WAITING으로 되돌리고 모든 플레이어의 준비 상태 초기화 (준비를 푼 시각 기록) (방이 이미 사라졌으면 무시)
+-- KEYS[1] = room:{roomId}, KEYS[2] = :players, KEYS[3] = :nicknames, KEYS[4] = :ready, KEYS[5] = :characters
+-- ARGV[1] = '1'이면 남은 라운드와 상관없이 게임을 끝냄 (라운드 마무리에 실패했을 때)
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return {'OK'}
+end
+
+local room = redis.call('HMGET', KEYS[1], 'round', 'rounds', 'deck')
+local round = tonumber(room[1]) or 1
+local rounds = tonumber(room[2]) or 1
+
+local deck = {}
+for id in string.gmatch(room[3] or '', '[^,]+') do
+    table.insert(deck, id)
+end
+
+if ARGV[1] ~= '1' and round < rounds and round < #deck and redis.call('LLEN', KEYS[2]) >= 2 then
+    redis.call('HSET', KEYS[1], 'round', tostring(round + 1))
+    return {'NEXT', tostring(round + 1), deck[round + 1], redis.call('LRANGE', KEYS[2], 0, -1)}
+end
+
+local time = redis.call('TIME')
+local now = tostring(time[1] * 1000 + math.floor(time[2] / 1000))
+redis.call('HSET', KEYS[1], 'status', 'WAITING', 'round', '0')
+redis.call('HDEL', KEYS[1], 'startedAt', 'deck', 'deckSeed')
+for _, playerId in ipairs(redis.call('HKEYS', KEYS[4])) do
+    redis.call('HSET', KEYS[4], playerId, now)
+end
+
+return {'OK'}
@@ -0,0 +1,41 @@
+-- 방 입장: 중복 입장, 게임 중 여부, 정원, 비밀번호 확인 후 플레이어 추가와 유저 -> 방 매핑을 한 번에 처리
+-- KEYS[1] = room:{roomId}, KEYS[2] = :players, KEYS[3] = :nicknames, KEYS[4] = :ready, KEYS[5] = :characters
+-- KEYS[6] = user:room:{userId}
+-- ARGV[1] = roomId, ARGV[2] = userId, ARGV[3] = nickname, ARGV[4] = characterType
+-- ARGV[5] = 비밀번호 입력 여부 ('1' / '0'), ARGV[6] = 비밀번호
+if redis.call('EXISTS', KEYS[6]) == 1 then
+    return {'ALREADY_IN_ROOM'}
+end
+
+local room = redis.call('HMGET', KEYS[1], 'maxPlayers', 'privateRoom', 'password', 'status')
+if not room[1] then
+    return {'ROOM_NOT_FOUND'}
+end
+if room[4] == 'PLAYING' then
+    return {'GAME_IN_PROGRESS'}
+end
+
+if redis.call('LLEN', KEYS[2]) >= tonumber(room[1]) then
+    return {'ROOM_FULL'}
+end
+if room[2] == '1' then
+    if ARGV[5] ~= '1' or not room[3] or ARGV[6] ~= room[3] then
+        return {'WRONG_PASSWORD'}
+    end
+end
+
+local time = redis.call('TIME')
+local now = tostring(time[1] * 1000 + math.floor(time[2] / 1000))
+local userId = ARGV[2]
+redis.call('RPUSH', KEYS[2], userId)
+redis.call('HSET', KEYS[3], userId, ARGV[3])
+redis.call('HSET', KEYS[4], userId, now)
+redis.call('HSET', KEYS[5], userId, ARGV[4])
+redis.call('SET', KEYS[6], ARGV[1])
+
+return {'OK',
+        redis.call('HGETALL', KEYS[1]),
+        redis.call('LRANGE', KEYS[2], 0, -1),
+        redis.call('HGETALL', KEYS[3]),
+        redis.call('HGETALL', KEYS[4]),
+        redis.call('HGETALL', KEYS[5])}
@@ -0,0 +1,33 @@
+-- 강퇴: 방장 확인 후 대상 플레이어 제거와 대상의 유저 -> 방 매핑 삭제를 한 번에 처리
+-- KEYS[1] = room:{roomId}, KEYS[2] = :players, KEYS[3] = :nicknames, KEYS[4] = :ready, KEYS[5] = :characters
+-- KEYS[6] = user:room:{targetId}
+-- ARGV[1] = roomId, ARGV[2] = 요청한 userId, ARGV[3] = 강퇴할 userId
+local hostId = redis.call('HGET', KEYS[1], 'hostId')
+if not hostId then
+    return {'ROOM_NOT_FOUND'}
+end
+
+local targetId = ARGV[3]
+if hostId ~= ARGV[2] then
+    return {'NOT_HOST'}
+end
+if targetId == hostId then
+    return {'CANNOT_KICK_HOST'}
+end
+if redis.call('LREM', KEYS[2], 0, targetId) == 0 then
+    return {'NOT_IN_ROOM'}
+end
+redis.call('HDEL', KEYS[3], targetId)
+redis.call('HDEL', KEYS[4], targetId)
+redis.call('HDEL', KEYS[5], targetId)
+
+if redis.call('GET', KEYS[6]) == ARGV[1] then
+    redis.call('DEL', KEYS[6])
+end
+
+return {'OK',
+        redis.call('HGETALL', KEYS[1]),
+        redis.call('LRANGE', KEYS[2], 0, -1),
+        redis.call('HGETALL', KEYS[3]),
+        redis.call('HGETALL', KEYS[4]),
+        redis.call('HGETALL', KEYS[5])}
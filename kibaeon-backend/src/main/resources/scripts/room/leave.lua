@@ -0,0 +1,38 @@
+-- 방 나가기: 플레이어 제거, 매핑 삭제, 방장 위임, 빈 방 삭제를 한 번에 처리
+-- KEYS[1] = room:{roomId}, KEYS[2] = :players, KEYS[3] = :nicknames, KEYS[4] = :ready, KEYS[5] = :characters
+-- KEYS[6] = user:room:{userId}, KEYS[7] = lobby:rooms
+-- ARGV[1] = roomId, ARGV[2] = userId
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return {'ROOM_NOT_FOUND'}
+end
+
+local userId = ARGV[2]
+if redis.call('LREM', KEYS[2], 0, userId) == 0 then
+    return {'NOT_IN_ROOM'}
+end
+redis.call('HDEL', KEYS[3], userId)
+redis.call('HDEL', KEYS[4], userId)
+redis.call('HDEL', KEYS[5], userId)
+
+-- 다른 방을 가리키는 매핑은 건드리지 않음
+if redis.call('GET', KEYS[6]) == ARGV[1] then
+    redis.call('DEL', KEYS[6])
+end
+
+-- 방에 유저가 없으면 방 삭제
+if redis.call('LLEN', KEYS[2]) == 0 then
+    redis.call('DEL', KEYS[1], KEYS[2], KEYS[3], KEYS[4], KEYS[5])
+    redis.call('ZREM', KEYS[7], ARGV[1])
+    return {'DELETED'}
+end
+
+-- 나간 사람이 방장이었다면 다음 사람에게 방장 위임 (닉네임은 방 정보에 이미 있음)
+local host = redis.call('HMGET', KEYS[1], 'hostId', 'hostNickname')
+if host[1] == userId then
+    host[1] = redis.call('LINDEX', KEYS[2], 0)
+    host[2] = redis.call('HGET', KEYS[3], host[1])
+    redis.call('HSET', KEYS[1], 'hostId', host[1], 'hostNickname', host[2])
+end
+
+-- 나간 뒤의 방장 정보 반환
+return {'OK', host[1], host[2]}
@@ -0,0 +1,19 @@
+-- 준비 상태 토글: 해당 플레이어의 ready 필드 하나만 변경
+-- ready 값은 준비했으면 '1', 아니면 준비를 푼 시각 (Redis 서버 시각 ms, 잠수 강퇴 기준)
+-- KEYS[1] = room:{roomId}, KEYS[2] = :ready
+-- ARGV[1] = userId
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return {'ROOM_NOT_FOUND'}
+end
+
+local ready = redis.call('HGET', KEYS[2], ARGV[1])
+if not ready then
+    return {'NOT_IN_ROOM'}
+end
+
+local time = redis.call('TIME')
+local now = tostring(time[1] * 1000 + math.floor(time[2] / 1000))
+local toggled = ready == '1' and now or '1'
+redis.call('HSET', KEYS[2], ARGV[1], toggled)
+
+return {'OK', toggled}
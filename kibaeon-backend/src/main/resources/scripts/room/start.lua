@@ -0,0 +1,32 @@
+-- 게임 시작: 방장, 대기 상태, 인원, 방장 제외 전원 준비 확인 후 상태를 PLAYING으로 변경하고 덱 저장
+-- KEYS[1] = room:{roomId}, KEYS[2] = :players, KEYS[3] = :nicknames, KEYS[4] = :ready, KEYS[5] = :characters
+-- ARGV[1] = 요청한 userId, ARGV[2] = startedAt, ARGV[3] = 덱 시드, ARGV[4] = 덱 (라운드별 문장 id, 쉼표 구분)
+local room = redis.call('HMGET', KEYS[1], 'hostId', 'status')
+if not room[1] then
+    return {'ROOM_NOT_FOUND'}
+end
+if room[1] ~= ARGV[1] then
+    return {'NOT_HOST'}
+end
+if room[2] == 'PLAYING' then
+    return {'GAME_IN_PROGRESS'}
+end
+
+local players = redis.call('LRANGE', KEYS[2], 0, -1)
+if #players < 2 then
+    return {'NOT_ENOUGH_PLAYERS'}
+end
+for _, playerId in ipairs(players) do
+    if playerId ~= room[1] and redis.call('HGET', KEYS[4], playerId) ~= '1' then
+        return {'NOT_ALL_READY'}
+    end
+end
+
+redis.call('HSET', KEYS[1], 'status', 'PLAYING', 'startedAt', ARGV[2], 'round', '1', 'deckSeed', ARGV[3], 'deck', ARGV[4])
+
+return {'OK',
+        redis.call('HGETALL', KEYS[1]),
+        players,
+        redis.call('HGETALL', KEYS[3]),
+        redis.call('HGETALL', KEYS[4]),
+        redis.call('HGETALL', KEYS[5])}
@@ -0,0 +1,19 @@
+-- 방장 위임: 방장 확인 후 hostId, hostNickname 필드만 변경
+-- KEYS[1] = room:{roomId}, KEYS[2] = :nicknames
+-- ARGV[1] = 요청한 userId, ARGV[2] = 새 방장 userId
+local hostId = redis.call('HGET', KEYS[1], 'hostId')
+if not hostId then
+    return {'ROOM_NOT_FOUND'}
+end
+if hostId ~= ARGV[1] then
+    return {'NOT_HOST'}
+end
+
+local nickname = redis.call('HGET', KEYS[2], ARGV[2])
+if not nickname then
+    return {'NOT_IN_ROOM'}
+end
+
+redis.call('HSET', KEYS[1], 'hostId', ARGV[2], 'hostNickname', nickname)
+
+return {'OK', nickname}
@@ -0,0 +1,8 @@
+-- 오래된 유저 -> 방 매핑 삭제 (그 사이 다른 방으로 바뀌었으면 건드리지 않음)
+-- KEYS[1] = user:room:{userId}
+-- ARGV[1] = 확인한 roomId
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    redis.call('DEL', KEYS[1])
+    return 1
+end
+return 0
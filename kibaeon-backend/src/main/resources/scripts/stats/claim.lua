@@ -0,0 +1,25 @@
+-- 반영 대기 중인 유저들을 배치 하나로 묶음 (유저 목록과 batchId는 Java에서 미리 정해서 넘김)
+-- 그 사이 다른 서버가 먼저 가져간 유저는 stats:dirty에 없으므로 건너뜀
+-- 변화량은 배치 해시로 옮기고 지우기 때문에, 이후 들어오는 결과는 새 변화량으로 쌓임
+-- 배치는 DB 반영이 끝날 때까지 stats:batches에 남아 있어서 서버가 죽어도 다시 반영 가능
+-- KEYS[1] = stats:dirty, KEYS[2] = stats:batches, KEYS[3] = stats:batch:{batchId}, KEYS[4..] = stats:delta:{userId}
+-- ARGV[1] = batchId, ARGV[2..] = userId (KEYS[4..]와 같은 순서)
+local claimed = 0
+for i = 4, #KEYS do
+    local userId = ARGV[i - 2]
+    if redis.call('SREM', KEYS[1], userId) == 1 then
+        local delta = redis.call('HMGET', KEYS[i], 'games', 'wins', 'wpmSum', 'maxWpm')
+        if delta[1] then
+            redis.call('HSET', KEYS[3], userId, delta[1] .. ',' .. (delta[2] or '0') .. ',' .. (delta[3] or '0') .. ',' .. (delta[4] or '0'))
+        end
+        redis.call('DEL', KEYS[i])
+        claimed = claimed + 1
+    end
+end
+
+if claimed == 0 then
+    return {}
+end
+redis.call('SADD', KEYS[2], ARGV[1])
+
+return {ARGV[1]}
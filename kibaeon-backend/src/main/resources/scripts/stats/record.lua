@@ -0,0 +1,16 @@
+-- 게임 결과 한 건을 유저의 미반영 변화량에 더함
+-- KEYS[1] = stats:delta:{userId}, KEYS[2] = stats:dirty
+-- ARGV[1] = userId, ARGV[2] = wpm, ARGV[3] = 승리 여부 (1/0)
+redis.call('HINCRBY', KEYS[1], 'games', 1)
+redis.call('HINCRBY', KEYS[1], 'wins', tonumber(ARGV[3]))
+redis.call('HINCRBY', KEYS[1], 'wpmSum', tonumber(ARGV[2]))
+
+local maxWpm = tonumber(redis.call('HGET', KEYS[1], 'maxWpm'))
+if not maxWpm or tonumber(ARGV[2]) > maxWpm then
+    redis.call('HSET', KEYS[1], 'maxWpm', ARGV[2])
+end
+
+redis.call('SADD', KEYS[2], ARGV[1])
+
+-- 반영 대기 중인 유저 수
+return redis.call('SCARD', KEYS[2])
@@ -0,0 +1,12 @@
+-- 유저 요약 정보를 Redis에 저장 (DB를 읽기 전에 본 버전이 그대로일 때만, 해시 저장과 TTL을 한 번에)
+-- 읽는 사이 evict가 버전을 올렸으면 읽은 값이 이미 낡았을 수 있으므로 저장하지 않음
+-- KEYS[1] = user:summary:{userId}, KEYS[2] = user:summary:version:{userId}
+-- ARGV[1] = 읽기 전에 본 버전 (없었으면 빈 문자열), ARGV[2] = TTL(ms), ARGV[3..] = 필드, 값 순서
+local version = redis.call('GET', KEYS[2]) or ''
+if version ~= ARGV[1] then
+    return 0
+end
+
+redis.call('HSET', KEYS[1], unpack(ARGV, 3))
+redis.call('PEXPIRE', KEYS[1], ARGV[2])
+return 1
@@ -0,0 +1,144 @@
+package com.kibaeon.backend.matchmaking;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 대기열 크기별 매칭 시뮬레이션 (가상 시계, Spring 없이)
+// 매칭까지 걸린 시간과 한 방 안의 실력 차이(최고 WPM - 최저 WPM)를 출력
+class MatchmakingQueueSimulationTest {
+    private static final int GROUP_SIZE = 4;
+    private static final int MIN_GROUP_SIZE = 2;
+    private static final int BUCKET_WIDTH = 10;
+    private static final long WIDEN_EVERY_MILLIS = 2_000;
+    private static final int MAX_RADIUS = 10;
+    private static final long MAX_WAIT_MILLIS = 20_000;
+    private static final long TICK_MILLIS = 200;
+
+    private MatchmakingQueue newQueue() {
+        return new MatchmakingQueue(300, BUCKET_WIDTH, GROUP_SIZE, MIN_GROUP_SIZE, WIDEN_EVERY_MILLIS, MAX_RADIUS, MAX_WAIT_MILLIS);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {100, 1_000, 5_000})
+    void matchesQueuedPlayersWithinSkillWindow(int players) {
+        MatchmakingQueue queue = newQueue();
+        Random random = new Random(players);
+
+        // 10초 동안 고르게 들어오는 플레이어, 평균 WPM은 정규분포(60, 20)
+        long arrivalWindow = 10_000;
+        long[] arrivals = new long[players];
+        for (int i = 0; i < players; i++) {
+            arrivals[i] = (long) (random.nextDouble() * arrivalWindow);
+        }
+        Arrays.sort(arrivals);
+
+        List<Long> latencies = new ArrayList<>();
+        List<Double> spreads = new ArrayList<>();
+        Set<String> matched = new HashSet<>();
+
+        int next = 0;
+        long now = 0;
+        long end = arrivalWindow + MAX_WAIT_MILLIS + 5_000;
+        for (; now <= end; now += TICK_MILLIS) {
+            while (next < players && arrivals[next] <= now) {
+                double wpm = Math.max(0, 60 + random.nextGaussian() * 20);
+                queue.enqueue("user" + next, wpm, arrivals[next]);
+                next++;
+            }
+
+            for (List<MatchmakingQueue.Ticket> group : queue.poll(now)) {
+                assertThat(group.size()).isBetween(MIN_GROUP_SIZE, GROUP_SIZE);
+
+                double min = Double.MAX_VALUE;
+                double max = 0;
+                for (MatchmakingQueue.Ticket ticket : group) {
+                    assertThat(matched.add(ticket.getUserId())).isTrue();
+                    latencies.add(now - ticket.getEnqueuedAt());
+                    min = Math.min(min, ticket.getWpm());
+                    max = Math.max(max, ticket.getWpm());
+                }
+                spreads.add(max - min);
+            }
+        }
+
+        latencies.sort(null);
+        spreads.sort(null);
+        System.out.printf("players=%d matched=%d rooms=%d latency p50=%dms p95=%dms max=%dms spread p50=%.1f p95=%.1f max=%.1f%n",
+                players, matched.size(), spreads.size(),
+                percentile(latencies, 0.5), percentile(latencies, 0.95), latencies.get(latencies.size() - 1),
+                percentile(spreads, 0.5), percentile(spreads, 0.95), spreads.get(spreads.size() - 1));
+
+        // 최대 대기 시간이 지나면 두 명만 모여도 매칭되므로 남는 사람은 거의 없음
+        assertThat(matched.size() + queue.size()).isEqualTo(players);
+        assertThat(queue.size()).isLessThan(MIN_GROUP_SIZE + 1);
+        // 범위를 최대로 넓혀도 양옆 MAX_RADIUS 구간까지만 섞임
+        assertThat(spreads.get(spreads.size() - 1)).isLessThan((2 * MAX_RADIUS + 1) * BUCKET_WIDTH);
+    }
+
+    @Test
+    void concurrentPollsNeverMatchTheSamePlayerTwice() throws Exception {
+        MatchmakingQueue queue = newQueue();
+        int players = 20_000;
+        int threads = 8;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        Set<String> matched = ConcurrentHashMap.newKeySet();
+        List<String> duplicates = new ArrayList<>();
+
+        // 절반은 입장만, 절반은 입장하면서 동시에 매칭
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            executor.submit(() -> {
+                start.await();
+                Random random = new Random(thread);
+                for (int i = thread; i < players; i += threads) {
+                    queue.enqueue("user" + i, random.nextInt(200), 0);
+                    if (thread % 2 == 0) {
+                        collect(queue.poll(0), matched, duplicates);
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        collect(queue.poll(0), matched, duplicates);
+
+        assertThat(duplicates).isEmpty();
+        assertThat(matched.size() + queue.size()).isEqualTo(players);
+    }
+
+    private void collect(List<List<MatchmakingQueue.Ticket>> groups, Set<String> matched, List<String> duplicates) {
+        for (List<MatchmakingQueue.Ticket> group : groups) {
+            for (MatchmakingQueue.Ticket ticket : group) {
+                if (!matched.add(ticket.getUserId())) {
+                    synchronized (duplicates) {
+                        duplicates.add(ticket.getUserId());
+                    }
+                }
+            }
+        }
+    }
+
+    private static <T> T percentile(List<T> sorted, double p) {
+        return sorted.get((int) Math.min(sorted.size() - 1, Math.floor(p * sorted.size())));
+    }
+}
@@ -0,0 +1,131 @@
+package com.kibaeon.backend.realtime;
+
+import com.kibaeon.backend.KibaeonBackendApplication;
+import com.kibaeon.backend.config.JwtTokenProvider;
+import com.kibaeon.backend.room.RoomEventPublisher;
+import com.kibaeon.backend.room.dto.RoomEvent;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 같은 Redis를 쓰는 서버 두 대를 띄워서
+// A에서 발행한 방 이벤트가 구독자가 붙어 있는 B로 전달되고, 구독자가 없는 A는 그 채널을 구독하지 않는지 확인
+class ClusterBroadcasterMultiInstanceTest {
+    private static final String USER_ID = "910001";
+
+    private static ConfigurableApplicationContext instanceA;
+    private static ConfigurableApplicationContext instanceB;
+
+    @BeforeAll
+    static void startInstances() {
+        instanceA = start();
+        instanceB = start();
+    }
+
+    @AfterAll
+    static void stopInstances() {
+        if (instanceA != null) {
+            instanceA.close();
+        }
+        if (instanceB != null) {
+            instanceB.close();
+        }
+    }
+
+    @Test
+    void roomEventPublishedOnOneInstanceReachesSubscriberOnAnother() throws Exception {
+        String roomId = "multi-" + UUID.randomUUID();
+        String destination = RoomEventPublisher.ROOM_TOPIC_PREFIX + roomId;
+        RedisTemplate<String, Object> redis = redisTemplate(instanceA);
+        // 방 토픽은 입장한 유저만 구독 가능하므로 매핑만 만들어 둠
+        redis.opsForValue().set("user:room:" + USER_ID, roomId);
+
+        WebSocketStompClient client = new WebSocketStompClient(new StandardWebSocketClient());
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", "Bearer " + instanceB.getBean(JwtTokenProvider.class).createToken(Long.parseLong(USER_ID)));
+        StompSession session = client.connectAsync("ws://localhost:" + port(instanceB) + "/ws",
+                new WebSocketHttpHeaders(), connectHeaders, new StompSessionHandlerAdapter() {
+                }).get(5, TimeUnit.SECONDS);
+
+        BlockingQueue<String> received = new LinkedBlockingQueue<>();
+        session.subscribe(destination, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return byte[].class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                received.add(new String((byte[]) payload, StandardCharsets.UTF_8));
+            }
+        });
+
+        try {
+            // B만 채널을 구독 (Redis 구독자 1, 구독자가 없는 A는 구독하지 않음)
+            awaitSubscribers(redis, ClusterBroadcaster.CHANNEL_PREFIX + destination, 1);
+
+            instanceA.getBean(RoomEventPublisher.class).publish(RoomEvent.readyChanged(roomId, USER_ID, true));
+
+            String message = received.poll(5, TimeUnit.SECONDS);
+            assertThat(message).isNotNull().contains(roomId).contains(USER_ID);
+
+            // 구독을 끊으면 채널도 해제
+            session.disconnect();
+            awaitSubscribers(redis, ClusterBroadcaster.CHANNEL_PREFIX + destination, 0);
+        } finally {
+            redis.delete("user:room:" + USER_ID);
+        }
+    }
+
+    private static ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(KibaeonBackendApplication.class)
+                .properties("server.port=0", "management.server.port=0", "realtime.fanout=redis")
+                .run();
+    }
+
+    private static int port(ConfigurableApplicationContext context) {
+        return Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RedisTemplate<String, Object> redisTemplate(ConfigurableApplicationContext context) {
+        return context.getBean("redisTemplate", RedisTemplate.class);
+    }
+
+    // PUBSUB NUMSUB으로 채널 구독 서버 수가 expected가 될 때까지 대기
+    private static void awaitSubscribers(RedisTemplate<String, Object> redis, String channel, long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        long count = -1;
+        while (System.nanoTime() < deadline) {
+            List<Object> reply = (List<Object>) redis.execute((RedisCallback<Object>) connection -> connection.execute(
+                    "PUBSUB", "NUMSUB".getBytes(StandardCharsets.UTF_8), channel.getBytes(StandardCharsets.UTF_8)));
+            count = reply == null ? -1 : (Long) reply.get(1);
+            if (count == expected) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        assertThat(count).as("PUBSUB NUMSUB " + channel).isEqualTo(expected);
+    }
+}
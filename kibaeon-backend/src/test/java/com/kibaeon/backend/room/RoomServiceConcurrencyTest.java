@@ -0,0 +1,99 @@
+package com.kibaeon.backend.room;
+
+import com.kibaeon.backend.user.CharacterType;
+import com.kibaeon.backend.user.UserService;
+import com.kibaeon.backend.user.UserSummary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+
+@SpringBootTest
+class RoomServiceConcurrencyTest {
+
+    private static final int MAX_PLAYERS = 4;
+    private static final int JOINERS = 64;
+    private static final long HOST_ID = 900_000L;
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @MockitoBean
+    private UserService userService;
+
+    private final List<String> userIds = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        for (String userId : userIds) {
+            String roomId = roomService.getCurrentRoomId(userId);
+            if (roomId != null) {
+                roomService.leaveRoom(roomId, userId);
+            }
+        }
+    }
+
+    @Test
+    void parallelJoinsNeverExceedMaxPlayers() throws Exception {
+        given(userService.getSummary(anyLong())).willAnswer(invocation -> {
+            long id = invocation.getArgument(0);
+            return new UserSummary(id, "user" + id, CharacterType.KEYCAP_01, 0, 0, 0, 0.0);
+        });
+
+        String hostId = String.valueOf(HOST_ID);
+        userIds.add(hostId);
+        Room room = roomService.createRoom("동시 입장 테스트", hostId, MAX_PLAYERS, false, null, 1, null);
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger joined = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        for (int i = 1; i <= JOINERS; i++) {
+            String userId = String.valueOf(HOST_ID + i);
+            userIds.add(userId);
+            executor.submit(() -> {
+                start.await();
+                try {
+                    roomService.joinRoom(room.getRoomId(), userId, null);
+                    joined.incrementAndGet();
+                } catch (RuntimeException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        Room stored = roomService.getMyRoom(hostId);
+        assertThat(joined.get()).isEqualTo(MAX_PLAYERS - 1);
+        assertThat(rejected.get()).isEqualTo(JOINERS - (MAX_PLAYERS - 1));
+        assertThat(stored.getPlayerIds()).hasSize(MAX_PLAYERS).doesNotHaveDuplicates();
+        assertThat(stored.getReadyStatus()).hasSize(MAX_PLAYERS);
+
+        long mappedUsers = userIds.stream()
+                .filter(userId -> room.getRoomId().equals(redisTemplate.opsForValue().get("user:room:" + userId)))
+                .count();
+        assertThat(mappedUsers).isEqualTo(MAX_PLAYERS);
+    }
+}
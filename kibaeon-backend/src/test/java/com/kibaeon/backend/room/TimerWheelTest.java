@@ -0,0 +1,106 @@
+package com.kibaeon.backend.room;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 타이밍 휠 단위 테스트 (가상 시계, 샤드 스레드 없이)
+class TimerWheelTest {
+    private static final long TICK_MILLIS = 50;
+    private static final int SLOTS = 8;
+
+    private long now;
+    private final TimerWheel wheel = new TimerWheel(TICK_MILLIS, SLOTS, 0);
+
+    private void advanceTo(long millis) {
+        now = TimeUnit.MILLISECONDS.toNanos(millis);
+        wheel.advance(now);
+    }
+
+    @Test
+    void firesAfterDelayAndNotBefore() {
+        List<String> fired = new ArrayList<>();
+        wheel.schedule(now, 120, () -> fired.add("a"));
+
+        advanceTo(100);
+        assertThat(fired).isEmpty();
+
+        advanceTo(150);
+        assertThat(fired).containsExactly("a");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void cancelledTimerNeverFires() {
+        List<String> fired = new ArrayList<>();
+        TimerWheel.Timeout timeout = wheel.schedule(now, 100, () -> fired.add("a"));
+
+        assertThat(wheel.cancel(timeout)).isTrue();
+        assertThat(wheel.cancel(timeout)).isFalse();
+
+        advanceTo(1_000);
+        assertThat(fired).isEmpty();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void delaysLongerThanOneRevolutionWaitForTheirRound() {
+        // 한 바퀴 = 8칸 * 50ms = 400ms
+        List<String> fired = new ArrayList<>();
+        wheel.schedule(now, 1_000, () -> fired.add("long"));
+        wheel.schedule(now, 200, () -> fired.add("short"));
+
+        advanceTo(400);
+        assertThat(fired).containsExactly("short");
+
+        advanceTo(950);
+        assertThat(fired).containsExactly("short");
+
+        advanceTo(1_000);
+        assertThat(fired).containsExactly("short", "long");
+    }
+
+    @Test
+    void timersInTheSameSlotFireInScheduleOrder() {
+        List<String> fired = new ArrayList<>();
+        wheel.schedule(now, 100, () -> fired.add("first"));
+        wheel.schedule(now, 100, () -> fired.add("second"));
+        wheel.schedule(now, 100, () -> fired.add("third"));
+
+        advanceTo(100);
+        assertThat(fired).containsExactly("first", "second", "third");
+    }
+
+    @Test
+    void timerCanCancelAnotherDueInTheSameSlot() {
+        List<String> fired = new ArrayList<>();
+        TimerWheel.Timeout[] second = new TimerWheel.Timeout[1];
+        wheel.schedule(now, 100, () -> {
+            fired.add("first");
+            wheel.cancel(second[0]);
+        });
+        second[0] = wheel.schedule(now, 100, () -> fired.add("second"));
+
+        advanceTo(100);
+        assertThat(fired).containsExactly("first");
+    }
+
+    @Test
+    void timerScheduledWhileFiringRunsOnALaterTick() {
+        List<String> fired = new ArrayList<>();
+        wheel.schedule(now, 100, () -> {
+            fired.add("first");
+            wheel.schedule(now, 0, () -> fired.add("again"));
+        });
+
+        advanceTo(100);
+        assertThat(fired).containsExactly("first");
+
+        advanceTo(150);
+        assertThat(fired).containsExactly("first", "again");
+    }
+}
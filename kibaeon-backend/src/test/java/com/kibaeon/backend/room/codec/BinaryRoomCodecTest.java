@@ -0,0 +1,62 @@
+package com.kibaeon.backend.room.codec;
+
+import com.kibaeon.backend.room.Room;
+import com.kibaeon.backend.user.CharacterType;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 바이너리 방 형식: 왕복 변환과 잘못된 입력 처리
+class BinaryRoomCodecTest {
+    // version(1) | roomId "r1"(1+2) | roomName "room"(1+4) | maxPlayers(1) | flags(1) | status
+    private static final int STATUS_OFFSET = 11;
+
+    private final BinaryRoomCodec codec = new BinaryRoomCodec();
+
+    private Room room() {
+        Room room = new Room("r1", "room", "u1", "호스트", 4, false, null);
+        room.getPlayerIds().add("u2");
+        room.getPlayerNicknames().put("u2", "손님");
+        room.getReadyStatus().put("u2", true);
+        room.getPlayerCharacters().put("u2", CharacterType.values()[0]);
+        return room;
+    }
+
+    @Test
+    void roundTripsPlayersAndHost() {
+        Room decoded = codec.decode(codec.encode(room()));
+
+        assertThat(decoded.getPlayerIds()).containsExactly("u1", "u2");
+        assertThat(decoded.getHostId()).isEqualTo("u1");
+        assertThat(decoded.getHostNickname()).isEqualTo("호스트");
+        assertThat(decoded.getReadyStatus()).containsEntry("u2", true);
+        assertThat(decoded.getPlayerCharacters()).containsEntry("u2", CharacterType.values()[0]);
+    }
+
+    @Test
+    void rejectsUnknownStatusOrdinal() {
+        byte[] bytes = codec.encode(room());
+        bytes[STATUS_OFFSET] = 42;
+
+        assertThatThrownBy(() -> codec.decode(bytes)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsHostIndexOutsidePlayerTable() {
+        byte[] bytes = codec.encode(room());
+        // 마지막 바이트가 방장 인덱스 + 1
+        bytes[bytes.length - 1] = 9;
+
+        assertThatThrownBy(() -> codec.decode(bytes)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsTruncatedInput() {
+        byte[] bytes = codec.encode(room());
+        byte[] truncated = new byte[bytes.length / 2];
+        System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+
+        assertThatThrownBy(() -> codec.decode(truncated)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
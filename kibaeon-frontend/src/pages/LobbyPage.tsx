@@ -1,6 +1,6 @@
 import { useState, useEffect } from "react";
 import { useNavigate } from "react-router-dom";
-import { useQuery, useMutation, useQueryClient } from "@tanstack/react-query";
+import { useQuery, useInfiniteQuery, useMutation, useQueryClient } from "@tanstack/react-query";
 import api from "../api/axios";
 import CharacterDisplay from "../components/CharacterDisplay";
 import KeycapButton from "../components/KeycapButton";
@@ -27,6 +27,13 @@ interface Room {
     createdAt: string;
 }
 
+interface RoomPage {
+    rooms: Room[];
+    nextCursor: number | null;
+}
+
+const ROOM_PAGE_SIZE = 50;
+
 function LobbyPage() {
     const navigate = useNavigate();
     const queryClient = useQueryClient();
@@ -51,15 +58,38 @@ function LobbyPage() {
         retry: 1,
     });
 
-    // 방 목록 가져오기
-    const { data: rooms = [], isLoading: roomsLoading, refetch: refetchRooms } = useQuery<Room[]>({
+    // 방 목록 가져오기 (최신순 페이지, 다음 페이지는 nextCursor로 이어서)
+    const {
+        data: roomPages,
+        isLoading: roomsLoading,
+        refetch: refetchRooms,
+        fetchNextPage,
+        hasNextPage,
+        isFetchingNextPage,
+    } = useInfiniteQuery({
         queryKey: ['rooms'],
-        queryFn: async () => {
-            const res = await api.get("/api/rooms");
+        queryFn: async ({ pageParam }) => {
+            const res = await api.get<RoomPage>("/api/rooms", {
+                params: { size: ROOM_PAGE_SIZE, cursor: pageParam ?? undefined },
+            });
             return res.data;
         },
+        initialPageParam: null as number | null,
+        getNextPageParam: (lastPage) => lastPage.nextCursor,
     });
 
+    // 페이지 사이에 방이 생기거나 사라져서 겹친 방은 한 번만
+    const rooms: Room[] = [];
+    const seenRoomIds = new Set<string>();
+    for (const page of roomPages?.pages ?? []) {
+        for (const room of page.rooms) {
+            if (!seenRoomIds.has(room.roomId)) {
+                seenRoomIds.add(room.roomId);
+                rooms.push(room);
+            }
+        }
+    }
+
     // 현재 유저가 입장한 방 확인 및 로비 진입 시 방 목록 새로고침
     useEffect(() => {
         const checkCurrentRoom = async () => {
@@ -304,6 +334,19 @@ function LobbyPage() {
                             ))}
                         </div>
                     )}
+
+                    {hasNextPage && (
+                        <div className="flex justify-center mt-4">
+                            <KeycapButton
+                                onClick={() => fetchNextPage()}
+                                variant="secondary"
+                                size="md"
+                                disabled={isFetchingNextPage}
+                            >
+                                {isFetchingNextPage ? '불러오는 중...' : '방 더 보기'}
+                            </KeycapButton>
+                        </div>
+                    )}
                 </div>
 
                 {/* 비밀번호 입력 모달 */}